@@ -0,0 +1,42 @@
+-- Remove as constraints únicas de users.email e users.phone com nome gerado pelo Hibernate.
+--
+-- Bancos criados antes de uk_users_email/uk_users_phone ganham as novas constraints pelo ddl-auto: update,
+-- mas mantêm as antigas ao lado delas, e cada INSERT/UPDATE passa a manter dois índices únicos por coluna.
+-- Rodar uma vez por banco, depois que a aplicação subiu com a versão nova:
+--   psql -h localhost -U postgres -d tech_challenge -f scripts/postgres/drop_legacy_users_unique_constraints.sql
+-- Só remove constraints únicas de coluna única (email ou phone) e só se a nova constraint da coluna já existir.
+
+DO $$
+DECLARE
+    legacy record;
+BEGIN
+    FOR legacy IN
+        SELECT con.conname, att.attname
+        FROM pg_constraint con
+        JOIN pg_class rel ON rel.oid = con.conrelid
+        JOIN pg_namespace nsp ON nsp.oid = rel.relnamespace
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+        WHERE nsp.nspname = current_schema()
+          AND rel.relname = 'users'
+          AND con.contype = 'u'
+          AND array_length(con.conkey, 1) = 1
+          AND att.attname IN ('email', 'phone')
+          AND con.conname NOT IN ('uk_users_email', 'uk_users_phone')
+    LOOP
+        IF NOT EXISTS (
+            SELECT 1
+            FROM pg_constraint con
+            JOIN pg_class rel ON rel.oid = con.conrelid
+            JOIN pg_namespace nsp ON nsp.oid = rel.relnamespace
+            WHERE nsp.nspname = current_schema()
+              AND rel.relname = 'users'
+              AND con.conname = 'uk_users_' || legacy.attname
+        ) THEN
+            RAISE NOTICE 'uk_users_% ainda não existe; mantendo %', legacy.attname, legacy.conname;
+            CONTINUE;
+        END IF;
+
+        EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', legacy.conname);
+        RAISE NOTICE 'Constraint % (coluna %) removida', legacy.conname, legacy.attname;
+    END LOOP;
+END $$;
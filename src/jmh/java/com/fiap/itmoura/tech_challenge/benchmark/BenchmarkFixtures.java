@@ -0,0 +1,40 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fiap.itmoura.tech_challenge.model.dto.AddressDTO;
+import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
+import com.fiap.itmoura.tech_challenge.model.entity.Users;
+
+/**
+ * Dados de exemplo compartilhados pelos microbenchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static AddressDTO address() {
+        return new AddressDTO(UUID.randomUUID(), "Rua das Flores", "Centro", "Apto 12", 123,
+                "São Paulo", "SP", "01234-567");
+    }
+
+    static Users user(int index) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(index);
+        return Users.builder()
+                .id(UUID.randomUUID())
+                .name("Usuário " + index)
+                .email("usuario" + index + "@email.com")
+                .password("{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z4B2kIHpr5nQ5b/1Xx1oQbUS")
+                .phone("+5511999" + String.format("%06d", index))
+                .birthDate(LocalDate.of(1990, 1, 1).plusDays(index))
+                .typeUser(TypeUsers.builder().id(UUID.randomUUID()).name("Cliente").isActive(true).build())
+                .address(address().toEntity())
+                .createdAt(createdAt)
+                .lastUpdatedAt(createdAt)
+                .isActive(true)
+                .build();
+    }
+}
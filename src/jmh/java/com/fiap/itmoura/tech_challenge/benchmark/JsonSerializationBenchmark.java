@@ -0,0 +1,68 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.itmoura.tech_challenge.model.dto.UserDTO;
+
+/**
+ * Serialização Jackson de um usuário e de uma página de usuários, como feita pelos controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private UserDTO user;
+
+    @Setup
+    public void setUp() {
+        // Mesmos padrões do ObjectMapper configurado pelo Spring Boot
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        user = UserDTO.fromEntity(BenchmarkFixtures.user(0));
+    }
+
+    @Benchmark
+    public byte[] user() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] page(PageState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.page);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        @Param({ "20", "100" })
+        private int pageSize;
+
+        private Page<UserDTO> page;
+
+        @Setup
+        public void setUp() {
+            List<UserDTO> content = IntStream.range(0, pageSize)
+                    .mapToObj(i -> UserDTO.fromEntity(BenchmarkFixtures.user(i)))
+                    .toList();
+            page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.fiap.itmoura.tech_challenge.config.security.JWTAuthFilter;
+import com.fiap.itmoura.tech_challenge.config.security.JWTTokenService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Assinatura do token no login e validação a cada requisição autenticada (com e sem o cache de tokens verificados).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "segredo-de-benchmark-com-tamanho-suficiente-para-hmac512";
+
+    private JWTTokenService jwtTokenService;
+    private JWTVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenService = new JWTTokenService(new SimpleMeterRegistry(), SECRET, 10_000, Duration.ofMinutes(5));
+        verifier = JWT.require(Algorithm.HMAC512(SECRET)).build();
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtTokenService.sign("usuario@email.com",
+                new Date(System.currentTimeMillis() + JWTAuthFilter.JWT_EXPIRATION_TIME));
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken verifyCached() {
+        return new UsernamePasswordAuthenticationToken(jwtTokenService.verify(token), null, new ArrayList<>());
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken verifySignature() {
+        return new UsernamePasswordAuthenticationToken(verifier.verify(token).getSubject(), null, new ArrayList<>());
+    }
+}
@@ -0,0 +1,58 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fiap.itmoura.tech_challenge.model.dto.AddressDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserDTO;
+import com.fiap.itmoura.tech_challenge.model.entity.Address;
+import com.fiap.itmoura.tech_challenge.model.entity.Users;
+
+/**
+ * Conversões entre entidades e DTOs usadas em todas as respostas de usuário.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMappingBenchmark {
+
+    private Users user;
+    private UserDTO userDTO;
+    private Address address;
+    private AddressDTO addressDTO;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user(1);
+        userDTO = UserDTO.fromEntity(user);
+        address = user.getAddress();
+        addressDTO = BenchmarkFixtures.address();
+    }
+
+    @Benchmark
+    public UserDTO userFromEntity() {
+        return UserDTO.fromEntity(user);
+    }
+
+    @Benchmark
+    public Users userToEntity() {
+        return userDTO.toEntity();
+    }
+
+    @Benchmark
+    public AddressDTO addressFromEntity() {
+        return AddressDTO.fromEntity(address);
+    }
+
+    @Benchmark
+    public Address addressToEntity() {
+        return addressDTO.toEntity();
+    }
+}
@@ -0,0 +1,153 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fiap.itmoura.tech_challenge.TechChallengeApplication;
+import com.fiap.itmoura.tech_challenge.model.dto.UserDTO;
+import com.fiap.itmoura.tech_challenge.model.entity.id.UuidV7Generator;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+/**
+ * Leituras de usuários no H2 do perfil test: entidades completas convertidas com {@code fromEntity} (antes) contra
+ * a projeção {@code UserSummaryData} (depois). O contador {@code rows} dá linhas por segundo e o profiler gc a
+ * alocação por requisição. O H2 roda no mesmo processo e entra na alocação medida: o reaproveitamento de resultados
+ * fica desligado e só as primeiras páginas são lidas, pois OFFSET profundo sobre o JOIN mede o motor do H2 e não a
+ * aplicação. Executar com: ./gradlew jmh -Pjmh.includes=UserReadQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserReadQueryBenchmark {
+
+    private static final int USERS = 5_000;
+    private static final int SEED_BATCH = 500;
+    private static final int PAGES_READ = 10;
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private List<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TechChallengeApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;OPTIMIZE_REUSE_RESULTS=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.com.fiap.itmoura.tech_challenge=WARN");
+        userRepository = context.getBean(UserRepository.class);
+        ids = seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserDTO> pageEntities(Cursor cursor, Rows rows) {
+        Page<UserDTO> page = userRepository.findByIsActiveTrue(PageRequest.of(cursor.next(PAGES_READ), pageSize))
+                .map(UserDTO::fromEntity);
+        rows.rows += page.getNumberOfElements();
+        return page.getContent();
+    }
+
+    @Benchmark
+    public List<UserDTO> pageProjection(Cursor cursor, Rows rows) {
+        Page<UserDTO> page = userRepository.findActiveSummaries(PageRequest.of(cursor.next(PAGES_READ), pageSize))
+                .map(UserDTO::fromSummary);
+        rows.rows += page.getNumberOfElements();
+        return page.getContent();
+    }
+
+    @Benchmark
+    public UserDTO byIdEntity(Cursor cursor, Rows rows) {
+        UserDTO user = UserDTO.fromEntity(userRepository.findById(ids.get(cursor.next(ids.size()))).orElseThrow());
+        rows.rows++;
+        return user;
+    }
+
+    @Benchmark
+    public UserDTO byIdProjection(Cursor cursor, Rows rows) {
+        UserDTO user = UserDTO.fromSummary(userRepository.findSummaryById(ids.get(cursor.next(ids.size()))).orElseThrow());
+        rows.rows++;
+        return user;
+    }
+
+    private static List<UUID> seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<UUID> ids = new ArrayList<>(USERS);
+        List<Object[]> addresses = new ArrayList<>(SEED_BATCH);
+        List<Object[]> users = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < USERS; i++) {
+            UUID id = UuidV7Generator.generate();
+            UUID addressId = UuidV7Generator.generate();
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            ids.add(id);
+            addresses.add(new Object[] { addressId, "Rua " + i, "Centro", "Apto " + i, i, "São Paulo", "SP", "01234-567" });
+            users.add(new Object[] { id, "Usuário " + i, "leitura" + i + "@email.com",
+                    "{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z4B2kIHpr5nQ5b/1Xx1oQbUS",
+                    "+5511" + String.format("%09d", i), addressId, createdAt, createdAt });
+            if (users.size() == SEED_BATCH || i == USERS - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO address (id, street, neighborhood, complement, number, city, state, zip_code) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", addresses);
+                jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email, password, phone, address_id, created_at, "
+                        + "last_updated_at, is_active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, TRUE)", users);
+                addresses.clear();
+                users.clear();
+            }
+        }
+        return ids;
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        int next(int bound) {
+            position = (position + 7) % bound;
+            return position;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+}
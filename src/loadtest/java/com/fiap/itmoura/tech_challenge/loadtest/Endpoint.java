@@ -0,0 +1,38 @@
+package com.fiap.itmoura.tech_challenge.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Endpoints exercitados pelo gerador de carga, identificados pela chave usada em -Dloadtest.mix.
+ */
+enum Endpoint {
+
+    LOGIN("login", "POST /login"),
+    GET_BY_ID("get", "GET /api/users/{id}"),
+    PAGINATED("paginated", "GET /api/users/paginated"),
+    CREATE("create", "POST /api/users"),
+    COUNT("count", "GET /api/users/count");
+
+    private final String key;
+    private final String label;
+
+    Endpoint(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equalsIgnoreCase(key.strip()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Endpoint desconhecido no mix: " + key));
+    }
+}
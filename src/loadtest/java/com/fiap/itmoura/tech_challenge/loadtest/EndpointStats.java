@@ -0,0 +1,53 @@
+package com.fiap.itmoura.tech_challenge.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latências (HdrHistogram) e contagem de status de um endpoint. Status -1 indica falha de conexão/timeout.
+ */
+class EndpointStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentSkipListMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void drop() {
+        dropped.increment();
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1_000_000d;
+    }
+
+    double maxMillis() {
+        return latencies.getMaxValue() / 1_000_000d;
+    }
+
+    String statuses() {
+        return statuses.entrySet().stream()
+                .map(entry -> (entry.getKey() < 0 ? "erro" : entry.getKey()) + "=" + entry.getValue().sum())
+                .collect(Collectors.joining(" "));
+    }
+}
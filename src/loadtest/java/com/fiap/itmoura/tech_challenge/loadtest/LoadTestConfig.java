@@ -0,0 +1,50 @@
+package com.fiap.itmoura.tech_challenge.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Parâmetros da carga, lidos de -Dloadtest.*.
+ *
+ * @param users     usuários semeados antes da carga
+ * @param rate      requisições por segundo (taxa de chegada fixa, independente das respostas)
+ * @param warmup    período inicial descartado do relatório
+ * @param duration  período medido
+ * @param maxInFlight limite de requisições pendentes no cliente; acima dele a chegada é contada como descartada
+ * @param mix       peso de cada endpoint, ex.: login:5,get:50,paginated:20,create:5,count:20
+ */
+record LoadTestConfig(int users, double rate, Duration warmup, Duration duration, int maxInFlight, Map<Endpoint, Integer> mix) {
+
+    private static final String DEFAULT_MIX = "login:5,get:50,paginated:20,create:5,count:20";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.users", 10_000),
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s")),
+                Integer.getInteger("loadtest.max-in-flight", 2_000),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)));
+    }
+
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada inválida no mix (esperado endpoint:peso): " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].strip());
+            if (weight > 0) {
+                weights.put(Endpoint.fromKey(parts[0]), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix de carga vazio");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,239 @@
+package com.fiap.itmoura.tech_challenge.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fiap.itmoura.tech_challenge.TechChallengeApplication;
+import com.fiap.itmoura.tech_challenge.model.entity.id.UuidV7Generator;
+import com.fiap.itmoura.tech_challenge.service.UserCounters;
+import com.fiap.itmoura.tech_challenge.service.UserNameIndex;
+
+/**
+ * Gerador de carga HTTP: sobe a aplicação no perfil test (H2), semeia usuários e dispara requisições numa taxa
+ * de chegada fixa (modelo aberto). A latência é medida a partir do instante planejado de cada requisição, então
+ * a fila formada quando o servidor atrasa entra no resultado (sem omissão coordenada).
+ * Executar com: ./gradlew loadTest -Dloadtest.users=10000 -Dloadtest.rate=200 -Dloadtest.duration=30s
+ */
+public final class LoadTestRunner {
+
+    private static final String SEED_PASSWORD = "senha123";
+    private static final int SEED_BATCH = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<UUID> userIds;
+    private final String token;
+    private final Endpoint[] weighted;
+    private final AtomicLong created = new AtomicLong();
+
+    private LoadTestRunner(LoadTestConfig config, HttpClient client, String baseUrl, List<UUID> userIds, String token) {
+        this.config = config;
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.userIds = userIds;
+        this.token = token;
+        this.weighted = config.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Endpoint[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        try (ConfigurableApplicationContext context = start(args);
+                HttpClient client = HttpClient.newBuilder()
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .build()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            List<UUID> userIds = seed(context, config.users());
+            String token = login(client, baseUrl);
+
+            Map<Endpoint, EndpointStats> stats = new LoadTestRunner(config, client, baseUrl, userIds, token).run();
+            print(config, stats);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String[] args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.com.fiap.itmoura.tech_challenge=WARN"));
+        arguments.addAll(List.of(args));
+        return new SpringApplicationBuilder(TechChallengeApplication.class)
+                .profiles("test")
+                .run(arguments.toArray(String[]::new));
+    }
+
+    /**
+     * Insere os usuários direto via JDBC (um único hash de senha para todos) e atualiza as estruturas em memória.
+     */
+    private static List<UUID> seed(ConfigurableApplicationContext context, int users) {
+        System.out.printf(Locale.ROOT, "Semeando %d usuários...%n", users);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String password = context.getBean(PasswordEncoder.class).encode(SEED_PASSWORD);
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+
+        List<UUID> ids = new ArrayList<>(users);
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < users; i++) {
+            UUID id = UuidV7Generator.generate();
+            ids.add(id);
+            Timestamp createdAt = Timestamp.valueOf(base.plusNanos(i * 1_000_000L));
+            batch.add(new Object[] { id, "Usuário Carga " + i, email(i), password,
+                    "+5511" + String.format("%09d", i), createdAt, createdAt });
+            if (batch.size() == SEED_BATCH || i == users - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO users (id, name, email, password, phone, created_at, last_updated_at, is_active) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, TRUE)",
+                        batch);
+                batch.clear();
+            }
+        }
+        context.getBean(UserNameIndex.class).rebuild();
+        context.getBean(UserCounters.class).reconcile();
+        return ids;
+    }
+
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"admin@sistema.com\",\"password\":\"admin123\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Falha no login do administrador: HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private Map<Endpoint, EndpointStats> run() {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        config.mix().keySet().forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+        AtomicInteger inFlight = new AtomicInteger();
+
+        long interval = (long) (1_000_000_000d / config.rate());
+        long start = System.nanoTime();
+        long measuredFrom = start + config.warmup().toNanos();
+        long end = measuredFrom + config.duration().toNanos();
+        System.out.printf(Locale.ROOT, "Carga de %.0f req/s: %d s de aquecimento + %d s medidos%n",
+                config.rate(), config.warmup().toSeconds(), config.duration().toSeconds());
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Endpoint endpoint = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+            boolean measured = intended >= measuredFrom;
+            if (inFlight.get() >= config.maxInFlight()) {
+                if (measured) {
+                    stats.get(endpoint).drop();
+                }
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            client.sendAsync(request(endpoint), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (measured) {
+                            stats.get(endpoint).record(System.nanoTime() - intended, error == null ? response.statusCode() : -1);
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(10_000_000L);
+        }
+        return stats;
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case LOGIN -> {
+                String body = "{\"email\":\"" + email(random.nextInt(userIds.size())) + "\",\"password\":\"" + SEED_PASSWORD + "\"}";
+                yield builder("/login").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+            }
+            case GET_BY_ID -> authenticated("/api/users/" + userIds.get(random.nextInt(userIds.size()))).GET().build();
+            case PAGINATED -> {
+                int pages = Math.max(1, userIds.size() / PAGE_SIZE);
+                yield authenticated("/api/users/paginated?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE).GET().build();
+            }
+            case CREATE -> {
+                long sequence = created.incrementAndGet();
+                String body = String.format(Locale.ROOT,
+                        "{\"name\":\"Novo Usuário %d\",\"email\":\"novo%d@email.com\",\"password\":\"%s\",\"phone\":\"+5521%09d\"}",
+                        sequence, sequence, SEED_PASSWORD, sequence);
+                yield builder("/api/users")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            case COUNT -> authenticated("/api/users/count").GET().build();
+        };
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpRequest.Builder authenticated(String path) {
+        return builder(path).header("Authorization", "Bearer " + token);
+    }
+
+    private static String email(int index) {
+        return "carga" + index + "@email.com";
+    }
+
+    private static void print(LoadTestConfig config, Map<Endpoint, EndpointStats> stats) {
+        double seconds = config.duration().toNanos() / 1_000_000_000d;
+        System.out.println();
+        System.out.printf(Locale.ROOT, "=== Carga: %.0f req/s por %.0f s, %d usuários semeados ===%n", config.rate(), seconds, config.users());
+        System.out.printf(Locale.ROOT, "%-28s %8s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "total", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "descart.", "status");
+        long total = 0;
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            total += endpoint.count();
+            System.out.printf(Locale.ROOT, "%-28s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9d  %s%n",
+                    entry.getKey().label(), endpoint.count(), endpoint.count() / seconds,
+                    endpoint.percentileMillis(50), endpoint.percentileMillis(90), endpoint.percentileMillis(99),
+                    endpoint.percentileMillis(99.9), endpoint.maxMillis(), endpoint.dropped(), endpoint.statuses());
+        }
+        System.out.printf(Locale.ROOT, "%-28s %8d %9.1f%n", "total", total, total / seconds);
+        System.out.println();
+    }
+}
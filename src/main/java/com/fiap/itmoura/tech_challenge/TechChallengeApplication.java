@@ -1,24 +1,45 @@
 package com.fiap.itmoura.tech_challenge;
 
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import com.fiap.itmoura.tech_challenge.config.security.BcryptStrengthCalibrator;
+import com.fiap.itmoura.tech_challenge.config.security.BoundedPasswordEncoder;
+import com.fiap.itmoura.tech_challenge.config.security.PasswordHashingExecutor;
 
 @SpringBootApplication
 @EnableConfigurationProperties
+@EnableScheduling
 public class TechChallengeApplication {
 
+	private static final String BCRYPT_ID = "bcrypt";
+
 	public static void main(String[] args) {
 		SpringApplication.run(TechChallengeApplication.class, args);
 	}
 
 	@Bean
-	public PasswordEncoder getPasswordEncoder() {
-		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-		return encoder;
+	public BoundedPasswordEncoder getPasswordEncoder(
+			PasswordHashingExecutor passwordHashingExecutor,
+			@Value("${tech-challenge.password-hashing.strength:0}") int strength,
+			@Value("${tech-challenge.password-hashing.target-latency:50ms}") Duration targetLatency,
+			@Value("${tech-challenge.password-hashing.min-strength:10}") int minStrength,
+			@Value("${tech-challenge.password-hashing.max-strength:14}") int maxStrength) {
+		int cost = strength > 0 ? strength : BcryptStrengthCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+		// Hashes gravados com o prefixo {bcrypt}; os antigos, sem prefixo, continuam válidos e são migrados no login
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+		encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		return new BoundedPasswordEncoder(encoder, passwordHashingExecutor);
 	}
 
 }
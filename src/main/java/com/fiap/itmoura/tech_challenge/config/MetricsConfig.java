@@ -0,0 +1,22 @@
+package com.fiap.itmoura.tech_challenge.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Habilita {@code @Timed} nos services. As consultas dos repositórios já são medidas pelo Spring Boot
+ * ({@code spring.data.repository.invocations}); os histogramas são ligados no application.yml.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "service.method";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
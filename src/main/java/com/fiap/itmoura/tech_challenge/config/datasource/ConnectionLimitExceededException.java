@@ -0,0 +1,34 @@
+package com.fiap.itmoura.tech_challenge.config.datasource;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+/**
+ * Conexão recusada pelo {@link ConcurrencyLimitedDataSource} por fila cheia ou espera esgotada, sem chegar ao banco.
+ * Falhas reais de conexão (banco fora do ar, login recusado) continuam como as exceções do driver.
+ */
+public class ConnectionLimitExceededException extends SQLTransientConnectionException {
+
+    private final transient Duration retryAfter;
+
+    public ConnectionLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Procura a recusa do limitador na cadeia de causas, já que JPA e Spring a embrulham antes de chegar ao controller.
+     */
+    public static ConnectionLimitExceededException findIn(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectionLimitExceededException rejected) {
+                return rejected;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.fiap.itmoura.tech_challenge.config.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "tech-challenge.jdbc-limiter", name = "enabled", havingValue = "true")
+public class JdbcConcurrencyConfig {
+
+    private static final int DEFAULT_HIKARI_POOL_SIZE = 10;
+
+    @Bean
+    static BeanPostProcessor jdbcConcurrencyLimiter(Environment environment) {
+        int configured = environment.getProperty("tech-challenge.jdbc-limiter.max-concurrency", Integer.class, 0);
+        int maxConcurrency = configured > 0
+                ? configured
+                : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, DEFAULT_HIKARI_POOL_SIZE);
+        int maxWaiting = environment.getProperty("tech-challenge.jdbc-limiter.max-waiting", Integer.class, 200);
+        Duration acquireTimeout = environment.getProperty("tech-challenge.jdbc-limiter.acquire-timeout", Duration.class,
+                Duration.ofSeconds(2));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    log.info("Limitando o datasource {} a {} conexões simultâneas ({} na fila, espera máxima de {} ms)",
+                            beanName, maxConcurrency, maxWaiting, acquireTimeout.toMillis());
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, maxWaiting, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder jdbcConcurrencyLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof ConcurrencyLimitedDataSource limited)) {
+                return;
+            }
+            Gauge.builder("jdbc.limiter.active", limited, ConcurrencyLimitedDataSource::getActive)
+                    .description("Conexões JDBC em uso liberadas pelo limitador")
+                    .register(registry);
+            Gauge.builder("jdbc.limiter.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                    .description("Threads aguardando vaga para obter conexão JDBC")
+                    .register(registry);
+            Gauge.builder("jdbc.limiter.max", limited, ConcurrencyLimitedDataSource::getMaxConcurrency)
+                    .description("Máximo de conexões JDBC simultâneas")
+                    .register(registry);
+            FunctionCounter.builder("jdbc.limiter.rejected", limited, ConcurrencyLimitedDataSource::getRejected)
+                    .description("Pedidos de conexão recusados por fila cheia ou tempo esgotado")
+                    .register(registry);
+        };
+    }
+}
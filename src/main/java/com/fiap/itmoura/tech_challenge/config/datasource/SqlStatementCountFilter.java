@@ -0,0 +1,84 @@
+package com.fiap.itmoura.tech_challenge.config.datasource;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mede quantos comandos SQL cada requisição executa: devolve o total no header {@value #HEADER}, registra a
+ * métrica {@code http.server.requests.sql.statements} por endpoint e avisa quando o orçamento é excedido,
+ * o que denuncia consultas N+1. Roda antes da cadeia do Spring Security para incluir a autenticação.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Statement-Count";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+
+    public SqlStatementCountFilter(
+            SqlStatementCounter counter,
+            MeterRegistry meterRegistry,
+            @Value("${tech-challenge.sql-statements.budget:10}") int budget) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        counter.begin();
+        try {
+            // O header precisa entrar antes do commit da resposta; o que rodar depois só conta na métrica
+            chain.doFilter(request, new OnCommittedResponseWrapper(response) {
+                @Override
+                protected void onResponseCommitted() {
+                    setHeader(HEADER, String.valueOf(counter.current()));
+                }
+            });
+        } finally {
+            int count = counter.end();
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, String.valueOf(count));
+            }
+            record(request, response, count);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, int count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("Comandos SQL executados por requisição")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        if (count > budget) {
+            log.warn("{} {} executou {} comandos SQL, acima do orçamento de {} (status {}, possível N+1)",
+                    request.getMethod(), pattern != null ? uri : request.getRequestURI(), count, budget, response.getStatus());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.fiap.itmoura.tech_challenge.config.datasource;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conta os comandos SQL que o Hibernate prepara na thread atual, entre {@link #begin()} e {@link #end()}.
+ * Fora de uma contagem aberta o custo é só a leitura do ThreadLocal.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void begin() {
+        counts.set(new int[1]);
+    }
+
+    public int current() {
+        int[] count = counts.get();
+        return count != null ? count[0] : 0;
+    }
+
+    public int end() {
+        int count = current();
+        counts.remove();
+        return count;
+    }
+}
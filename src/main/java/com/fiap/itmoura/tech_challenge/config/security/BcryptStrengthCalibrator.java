@@ -0,0 +1,56 @@
+package com.fiap.itmoura.tech_challenge.config.security;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Escolhe o custo do bcrypt medindo o hash nesta máquina, para que o login fique próximo da latência alvo.
+ * Cada ponto de custo dobra o tempo do hash, então basta medir o custo mínimo e extrapolar.
+ */
+@Slf4j
+public final class BcryptStrengthCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String PROBE = "calibracao-bcrypt";
+
+    private BcryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(PROBE);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode(PROBE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int strength = choose(best, targetLatency, minStrength, maxStrength);
+        log.info("Custo do bcrypt calibrado em {} (custo {} levou {} ms, alvo de {} ms)",
+                strength, minStrength, best / 1_000_000, targetLatency.toMillis());
+        return strength;
+    }
+
+    /**
+     * Maior custo cujo tempo estimado cabe na latência alvo, nunca abaixo do mínimo nem acima do máximo.
+     */
+    static int choose(long nanosAtMinStrength, Duration targetLatency, int minStrength, int maxStrength) {
+        long target = targetLatency.toNanos();
+        int strength = minStrength;
+        long estimated = nanosAtMinStrength;
+        while (strength < maxStrength && estimated * 2 <= target) {
+            estimated *= 2;
+            strength++;
+        }
+        if (estimated > target) {
+            log.warn("Hash com o custo mínimo {} ({} ms) já excede o alvo de {} ms",
+                    minStrength, estimated / 1_000_000, targetLatency.toMillis());
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,47 @@
+package com.fiap.itmoura.tech_challenge.config.security;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Executa encode/matches do encoder delegado no {@link PasswordHashingExecutor}, liberando as threads de requisição.
+ */
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Versão assíncrona para importações em lote: aguarda vaga no pool em vez de rejeitar.
+     */
+    public CompletableFuture<String> encodeWhenAvailable(CharSequence rawPassword) {
+        return executor.submitWhenAvailable("encode", () -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * Versão assíncrona para trabalho em segundo plano: não agenda nada se o pool estiver cheio.
+     */
+    public Optional<CompletableFuture<String>> encodeIfAvailable(CharSequence rawPassword) {
+        return executor.submitIfAvailable("encode", () -> delegate.encode(rawPassword));
+    }
+}
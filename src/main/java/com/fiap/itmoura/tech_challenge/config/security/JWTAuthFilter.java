@@ -1,15 +1,20 @@
 package com.fiap.itmoura.tech_challenge.config.security;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.itmoura.tech_challenge.exception.RetryableRequestException;
 import com.fiap.itmoura.tech_challenge.model.data.UserDetailData;
+import com.fiap.itmoura.tech_challenge.model.dto.ValidationErrorDTO;
 import com.fiap.itmoura.tech_challenge.model.entity.Users;
+import com.fiap.itmoura.tech_challenge.service.PasswordRehashService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,14 +24,27 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 @RequiredArgsConstructor
 public class JWTAuthFilter extends UsernamePasswordAuthenticationFilter {
 
     public static final int JWT_EXPIRATION_TIME = 864000000;
-    public static final String TOKEN_PASSWORD = "${spring.security.jwt.secret}";
 
     private final AuthenticationManager authenticationManager;
+    private final JWTTokenService jwtTokenService;
+    private final PasswordRehashService passwordRehashService;
+    private final LoginAdmissionController loginAdmissionController;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        try {
+            super.doFilter(request, response, chain);
+        } catch (RetryableRequestException e) {
+            // Admissão de login (429) ou pool de hash de senha (503) cheios: responde com Retry-After em vez de um 500
+            writeError((HttpServletResponse) response, e.getStatus().value(), e.getRetryAfterSeconds(), e.getMessage());
+        }
+    }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
@@ -34,10 +52,18 @@ public class JWTAuthFilter extends UsernamePasswordAuthenticationFilter {
             var user = new ObjectMapper()
                     .readValue(request.getInputStream(), Users.class);
 
-            return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
-                    user.getEmail(),
-                    user.getPassword(),
-                    new ArrayList<>()));
+            try (var permit = loginAdmissionController.admit(user.getEmail())) {
+                var authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+                        user.getEmail(),
+                        user.getPassword(),
+                        new ArrayList<>()));
+
+                // Senha conferida: migra em segundo plano hashes com custo ou algoritmo antigo
+                if (authentication.getPrincipal() instanceof UserDetailData userDetailData) {
+                    passwordRehashService.rehashIfNeeded(userDetailData.getUsername(), userDetailData.getPassword(), user.getPassword());
+                }
+                return authentication;
+            }
         } catch (IOException e) {
             throw new RuntimeException("Falha ao auntenticar usuário", e);
         }
@@ -47,12 +73,18 @@ public class JWTAuthFilter extends UsernamePasswordAuthenticationFilter {
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException, ServletException {
         var userDetailData = (UserDetailData) authResult.getPrincipal();
 
-        var token = JWT.create()
-                .withSubject(userDetailData.getUsername())
-                .withExpiresAt(new Date(System.currentTimeMillis() + JWT_EXPIRATION_TIME))
-                .sign(Algorithm.HMAC512(TOKEN_PASSWORD));
+        var token = jwtTokenService.sign(
+                userDetailData.getUsername(),
+                new Date(System.currentTimeMillis() + JWT_EXPIRATION_TIME));
 
         response.getWriter().write(token);
         response.getWriter().flush();
     }
+
+    private static void writeError(HttpServletResponse response, int status, String retryAfterSeconds, String message) throws IOException {
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        new ObjectMapper().writeValue(response.getOutputStream(), new ValidationErrorDTO(List.of(message), status));
+    }
 }
@@ -15,6 +15,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.fiap.itmoura.tech_challenge.service.PasswordRehashService;
+
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -22,17 +24,23 @@ import lombok.RequiredArgsConstructor;
 @Configuration
 public class JWTConfig {
 
+    private final JWTTokenService jwtTokenService;
+    private final PasswordRehashService passwordRehashService;
+    private final LoginAdmissionController loginAdmissionController;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authManager) throws Exception {
 
-        JWTAuthFilter jwtAuthFilter = new JWTAuthFilter(authManager);
-        JWTValidFilter jwtValidFilter = new JWTValidFilter(authManager);
+        JWTAuthFilter jwtAuthFilter = new JWTAuthFilter(authManager, jwtTokenService, passwordRehashService,
+                loginAdmissionController);
+        JWTValidFilter jwtValidFilter = new JWTValidFilter(authManager, jwtTokenService);
 
         http
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers(HttpMethod.POST, "/login").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/actuator/prometheus").permitAll()
                     .requestMatchers(
                             "/v3/api-docs/**",
                             "/swagger-resources/**",
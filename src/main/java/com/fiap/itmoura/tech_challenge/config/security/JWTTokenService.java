@@ -0,0 +1,138 @@
+package com.fiap.itmoura.tech_challenge.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class JWTTokenService {
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Duration cacheTtl;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer signTimer;
+    private final Timer verifyCachedTimer;
+    private final Timer verifyValidTimer;
+    private final Timer verifyInvalidTimer;
+
+    public JWTTokenService(
+            MeterRegistry meterRegistry,
+            @Value("${spring.security.jwt.secret}") String secret,
+            @Value("${spring.security.jwt.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${spring.security.jwt.cache.ttl:5m}") Duration cacheTtl) {
+        this.algorithm = Algorithm.HMAC512(secret);
+        this.verifier = JWT.require(algorithm).build();
+        this.cacheTtl = cacheTtl;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
+        this.signTimer = Timer.builder("jwt.sign")
+                .description("Tempo para assinar o token no login")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.verifyCachedTimer = verifyTimer(meterRegistry, "hit", "valid");
+        this.verifyValidTimer = verifyTimer(meterRegistry, "miss", "valid");
+        this.verifyInvalidTimer = verifyTimer(meterRegistry, "miss", "invalid");
+    }
+
+    public String sign(String subject, Date expiresAt) {
+        return signTimer.record(() -> JWT.create()
+                .withSubject(subject)
+                .withExpiresAt(expiresAt)
+                .sign(algorithm));
+    }
+
+    /**
+     * Retorna o subject do token, reaproveitando verificações recentes do mesmo token.
+     * Lança {@link JWTVerificationException} quando o token é inválido ou expirou.
+     */
+    public String verify(String token) {
+        long start = System.nanoTime();
+        var digest = digest(token);
+        var cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            verifyCachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached.subject();
+        }
+
+        DecodedJWT decoded;
+        try {
+            decoded = verifier.verify(token);
+        } catch (JWTVerificationException e) {
+            verifyInvalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        verifyValidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (decoded.getSubject() != null) {
+            var expiresAt = decoded.getExpiresAtAsInstant() != null ? decoded.getExpiresAtAsInstant() : Instant.MAX;
+            verifiedTokens.put(digest, new VerifiedToken(decoded.getSubject(), expiresAt));
+        }
+        return decoded.getSubject();
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String cache, String result) {
+        return Timer.builder("jwt.verify")
+                .description("Tempo para validar o token de uma requisição")
+                .tag("cache", cache)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String digest(String token) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt) {
+    }
+
+    // Cada entrada vive no máximo até a expiração do próprio token, limitada pelo TTL do cache
+    private class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            var untilTokenExpires = Duration.between(Instant.now(), value.expiresAt());
+            if (untilTokenExpires.isNegative()) {
+                return 0;
+            }
+            return untilTokenExpires.compareTo(cacheTtl) < 0 ? untilTokenExpires.toNanos() : cacheTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
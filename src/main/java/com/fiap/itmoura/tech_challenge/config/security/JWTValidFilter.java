@@ -1,7 +1,5 @@
 package com.fiap.itmoura.tech_challenge.config.security;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,16 +12,16 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
 import java.io.IOException;
 import java.util.ArrayList;
 
-import static com.fiap.itmoura.tech_challenge.config.security.JWTAuthFilter.TOKEN_PASSWORD;
-
-
 public class JWTValidFilter extends BasicAuthenticationFilter {
 
     public static final String HEADER_AUTHORIZATION = "Authorization";
     public static final String TOKEN_PREFIX = "Bearer ";
 
-    public JWTValidFilter(AuthenticationManager authenticationManager) {
+    private final JWTTokenService jwtTokenService;
+
+    public JWTValidFilter(AuthenticationManager authenticationManager, JWTTokenService jwtTokenService) {
         super(authenticationManager);
+        this.jwtTokenService = jwtTokenService;
     }
 
     @Override
@@ -43,10 +41,7 @@ public class JWTValidFilter extends BasicAuthenticationFilter {
     }
 
     private UsernamePasswordAuthenticationToken getAuthenticationToken(String token) {
-        var user = JWT.require(Algorithm.HMAC512(TOKEN_PASSWORD))
-                .build()
-                .verify(token)
-                .getSubject();
+        var user = jwtTokenService.verify(token);
 
         if (user == null) {
             return null;
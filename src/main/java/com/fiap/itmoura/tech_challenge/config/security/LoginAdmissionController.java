@@ -0,0 +1,123 @@
+package com.fiap.itmoura.tech_challenge.config.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controle de admissão do /login: limita quantos logins são processados ao mesmo tempo, no total e por email.
+ * A recusa (429) acontece antes da busca do usuário e do bcrypt, então uma rajada de tentativas custa pouca CPU.
+ */
+@Slf4j
+@Component
+public class LoginAdmissionController {
+
+    private static final String GLOBAL_MESSAGE = "Muitas tentativas de login simultâneas, tente novamente em instantes";
+    private static final String EMAIL_MESSAGE = "Já existe um login em andamento para este email, tente novamente em instantes";
+
+    private final Semaphore slots;
+    private final int maxConcurrent;
+    private final int maxPerEmail;
+    private final Duration retryAfter;
+    private final ConcurrentHashMap<String, Integer> inFlightByEmail = new ConcurrentHashMap<>();
+    private final Counter admitted;
+    private final Counter rejectedGlobal;
+    private final Counter rejectedEmail;
+
+    public LoginAdmissionController(
+            MeterRegistry meterRegistry,
+            @Value("${tech-challenge.login-admission.max-concurrent:0}") int maxConcurrent,
+            @Value("${tech-challenge.login-admission.max-per-email:2}") int maxPerEmail,
+            @Value("${tech-challenge.login-admission.retry-after:1s}") Duration retryAfter) {
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors() * 2;
+        this.maxPerEmail = maxPerEmail;
+        this.retryAfter = retryAfter;
+        this.slots = new Semaphore(this.maxConcurrent);
+
+        this.admitted = Counter.builder("login.admission.admitted")
+                .description("Logins admitidos para verificação de senha")
+                .register(meterRegistry);
+        this.rejectedGlobal = rejectedCounter(meterRegistry, "global");
+        this.rejectedEmail = rejectedCounter(meterRegistry, "email");
+        Gauge.builder("login.admission.in.flight", this, LoginAdmissionController::inFlight)
+                .description("Logins em processamento")
+                .register(meterRegistry);
+        Gauge.builder("login.admission.limit", this, controller -> controller.maxConcurrent)
+                .description("Máximo de logins simultâneos")
+                .register(meterRegistry);
+        Gauge.builder("login.admission.emails", inFlightByEmail, ConcurrentHashMap::size)
+                .description("Emails com login em processamento")
+                .register(meterRegistry);
+        log.info("Admissão de login: {} simultâneos, {} por email", this.maxConcurrent, maxPerEmail);
+    }
+
+    /**
+     * Reserva vaga para o login; lança {@link TooManyRequestsException} se algum dos limites estiver cheio.
+     * A vaga deve ser liberada fechando a {@link Permit} retornada.
+     */
+    public Permit admit(String email) {
+        String key = email != null ? email.strip().toLowerCase(Locale.ROOT) : "";
+        if (!slots.tryAcquire()) {
+            rejectedGlobal.increment();
+            throw new TooManyRequestsException(GLOBAL_MESSAGE, retryAfter);
+        }
+
+        int inFlight = inFlightByEmail.merge(key, 1, Integer::sum);
+        if (inFlight > maxPerEmail) {
+            releaseEmail(key);
+            slots.release();
+            rejectedEmail.increment();
+            log.debug("Login recusado: {} tentativas simultâneas para {}", inFlight, key);
+            throw new TooManyRequestsException(EMAIL_MESSAGE, retryAfter);
+        }
+
+        admitted.increment();
+        return new Permit(key);
+    }
+
+    public int inFlight() {
+        return maxConcurrent - slots.availablePermits();
+    }
+
+    private void releaseEmail(String key) {
+        inFlightByEmail.computeIfPresent(key, (email, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("login.admission.rejected")
+                .description("Logins recusados antes da verificação de senha")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private final String key;
+        private boolean released;
+
+        private Permit(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            releaseEmail(key);
+            slots.release();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.fiap.itmoura.tech_challenge.config.security;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pool dedicado e limitado para o trabalho de CPU do bcrypt, fora das threads do Tomcat.
+ * A capacidade total (threads + fila) é controlada por semáforo: chamadas de requisição falham na hora
+ * com 503 quando está cheio, enquanto trabalhos em lote aguardam uma vaga.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String OVERLOADED_MESSAGE = "Servidor sobrecarregado, tente novamente em instantes";
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore slots;
+    private final Duration retryAfter;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${tech-challenge.password-hashing.threads:0}") int threads,
+            @Value("${tech-challenge.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${tech-challenge.password-hashing.retry-after:1s}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory());
+        this.slots = new Semaphore(poolSize + queueCapacity);
+        this.retryAfter = retryAfter;
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("Tempo de espera na fila do pool de hash de senha")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Operações de hash rejeitadas por fila cheia")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Operações de hash aguardando thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Operações de hash em execução")
+                .register(meterRegistry);
+        log.info("Pool de hash de senha: {} threads, fila de {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Executa no pool e aguarda o resultado; lança {@link ServiceUnavailableException} se não houver vaga.
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        if (!slots.tryAcquire()) {
+            rejected.increment();
+            log.warn("Fila de hash de senha cheia, rejeitando operação {}", operation);
+            throw new ServiceUnavailableException(OVERLOADED_MESSAGE, retryAfter);
+        }
+
+        CompletableFuture<T> future = submit(operation, task);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrompido aguardando hash de senha", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Falha no hash de senha", e.getCause());
+        }
+    }
+
+    /**
+     * Agenda no pool aguardando uma vaga, para trabalhos em lote que não devem ser rejeitados.
+     */
+    public <T> CompletableFuture<T> submitWhenAvailable(String operation, Supplier<T> task) {
+        slots.acquireUninterruptibly();
+        return submit(operation, task);
+    }
+
+    /**
+     * Agenda no pool somente se houver vaga, para trabalhos opcionais que podem ficar para depois.
+     */
+    public <T> Optional<CompletableFuture<T>> submitIfAvailable(String operation, Supplier<T> task) {
+        if (!slots.tryAcquire()) {
+            return Optional.empty();
+        }
+        return Optional.of(submit(operation, task));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        Timer timer = "matches".equals(operation) ? matchesTimer : encodeTimer;
+        long queuedAt = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            // Só ocorre com o pool encerrado
+            slots.release();
+            throw new ServiceUnavailableException(OVERLOADED_MESSAGE, retryAfter);
+        }
+        // Libera a vaga ao concluir de qualquer forma: uma tarefa cancelada ainda na fila nunca chega a executar
+        future.whenComplete((result, error) -> slots.release());
+        return future;
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hash.duration")
+                .description("Tempo de CPU gasto no hash de senha")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,7 @@
 package com.fiap.itmoura.tech_challenge.controller;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,7 +16,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.fiap.itmoura.tech_challenge.model.data.EntityTags;
 import com.fiap.itmoura.tech_challenge.model.dto.OnCreate;
 import com.fiap.itmoura.tech_challenge.model.dto.OnUpdate;
 import com.fiap.itmoura.tech_challenge.model.dto.TypeUsersDTO;
@@ -38,23 +41,33 @@ public class TypeUsersController {
     @GetMapping
     @Operation(summary = "Listar todos os tipos de usuário", description = "Retorna uma lista com todos os tipos de usuário ativos")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de tipos de usuário retornada com sucesso")
+        @ApiResponse(responseCode = "200", description = "Lista de tipos de usuário retornada com sucesso"),
+        @ApiResponse(responseCode = "304", description = "Lista não mudou desde a ETag informada em If-None-Match")
     })
-    public ResponseEntity<List<TypeUsersDTO>> findAll() {
+    public ResponseEntity<List<TypeUsersDTO>> findAll(WebRequest request) {
+        if (request.checkNotModified(typeUsersService.findAllEtag())) {
+            return null;
+        }
         List<TypeUsersDTO> typeUsers = typeUsersService.findAll();
-        return ResponseEntity.ok(typeUsers);
+        return ResponseEntity.ok().cacheControl(EntityTags.REVALIDATE).body(typeUsers);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Buscar tipo de usuário por ID", description = "Retorna um tipo de usuário específico pelo ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tipo de usuário encontrado"),
+        @ApiResponse(responseCode = "304", description = "Tipo de usuário não mudou desde a ETag informada em If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Tipo de usuário não encontrado")
     })
     public ResponseEntity<TypeUsersDTO> findById(
-            @Parameter(description = "ID do tipo de usuário") @PathVariable UUID id) {
+            @Parameter(description = "ID do tipo de usuário") @PathVariable UUID id,
+            WebRequest request) {
+        Optional<String> etag = typeUsersService.findEtagById(id);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
         TypeUsersDTO typeUser = typeUsersService.findById(id);
-        return ResponseEntity.ok(typeUser);
+        return ResponseEntity.ok().cacheControl(EntityTags.REVALIDATE).body(typeUser);
     }
 
     @PostMapping
@@ -1,22 +1,54 @@
 package com.fiap.itmoura.tech_challenge.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import com.fiap.itmoura.tech_challenge.model.data.EntityTags;
+import com.fiap.itmoura.tech_challenge.model.dto.ChangeFeedDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.CursorPageDTO;
 import com.fiap.itmoura.tech_challenge.model.dto.OnCreate;
 import com.fiap.itmoura.tech_challenge.model.dto.OnUpdate;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBatchDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkRequestDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkResultDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserChangeDTO;
 import com.fiap.itmoura.tech_challenge.model.dto.UserDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserImportResultDTO;
 import com.fiap.itmoura.tech_challenge.controller.interfaces.UserControllerInterface;
+import com.fiap.itmoura.tech_challenge.service.UserBulkService;
+import com.fiap.itmoura.tech_challenge.service.UserEventBroadcaster;
+import com.fiap.itmoura.tech_challenge.service.UserImportService;
 import com.fiap.itmoura.tech_challenge.service.UserService;
 
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,13 +59,24 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserController implements UserControllerInterface {
 
+    private static final int NDJSON_FLUSH_INTERVAL = 500;
+
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserBulkService userBulkService;
+    private final UserEventBroadcaster userEventBroadcaster;
+    private final ObjectMapper objectMapper;
 
     @Override
     public List<UserDTO> findAll() {
         return userService.findAll();
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ndjson(outputStream -> writeNdjson(outputStream, userService::streamAll));
+    }
+
     @Override
     public Page<UserDTO> findAllPaginated(
             @PageableDefault(size = 20) Pageable pageable) {
@@ -41,15 +84,50 @@ public class UserController implements UserControllerInterface {
     }
 
     @Override
-    public UserDTO findById(
-            @Parameter(description = "ID do usuário") @PathVariable UUID id) {
-        return userService.findById(id);
+    public CursorPageDTO<UserDTO> findAllByCursor(
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size) {
+        return userService.findAllByCursor(cursor, size);
+    }
+
+    @Override
+    public ChangeFeedDTO<UserChangeDTO> findChanges(
+            @Parameter(description = "Marca d'água retornada pela consulta anterior") @RequestParam(required = false) String watermark,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "100") int size) {
+        return userService.findChangesSince(watermark, size);
+    }
+
+    @Override
+    public SseEmitter streamEvents(
+            @Parameter(description = "Id do último evento recebido") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return userEventBroadcaster.subscribe(lastEventId);
+    }
+
+    @Override
+    public Page<UserDTO> searchByName(
+            @Parameter(description = "Trecho do nome (mínimo 3 caracteres)") @RequestParam String name,
+            @Parameter(description = "Número da página") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size) {
+        return userService.searchByName(name, page, size);
+    }
+
+    @Override
+    public ResponseEntity<UserDTO> findById(
+            @Parameter(description = "ID do usuário") @PathVariable UUID id,
+            WebRequest request) {
+        return conditional(request, () -> userService.findEtagById(id), () -> userService.findById(id));
+    }
+
+    @Override
+    public UserBatchDTO findAllByIds(@RequestBody List<UUID> ids) {
+        return userService.findAllByIds(ids);
     }
 
     @Override
-    public UserDTO findByEmail(
-            @Parameter(description = "Email do usuário") @PathVariable String email) {
-        return userService.findByEmail(email);
+    public ResponseEntity<UserDTO> findByEmail(
+            @Parameter(description = "Email do usuário") @PathVariable String email,
+            WebRequest request) {
+        return conditional(request, () -> userService.findEtagByEmail(email), () -> userService.findByEmail(email));
     }
 
     @Override
@@ -58,12 +136,23 @@ public class UserController implements UserControllerInterface {
         return userService.findByTypeUserId(typeUserId);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamByTypeUserId(
+            @Parameter(description = "ID do tipo de usuário") @PathVariable UUID typeUserId) {
+        return ndjson(outputStream -> writeNdjson(outputStream, consumer -> userService.streamByTypeUserId(typeUserId, consumer)));
+    }
+
     @Override
     public UserDTO create(
             @Validated(OnCreate.class) @RequestBody UserDTO userDTO) {
         return userService.create(userDTO);
     }
 
+    @Override
+    public UserImportResultDTO importCsv(InputStream csv) {
+        return userImportService.importCsv(csv);
+    }
+
     @Override
     public UserDTO update(
             @Parameter(description = "ID do usuário") @PathVariable UUID id,
@@ -83,6 +172,16 @@ public class UserController implements UserControllerInterface {
         userService.activate(id);
     }
 
+    @Override
+    public UserBulkResultDTO deactivateAll(@RequestBody UserBulkRequestDTO request) {
+        return userBulkService.deactivate(request);
+    }
+
+    @Override
+    public UserBulkResultDTO activateAll(@RequestBody UserBulkRequestDTO request) {
+        return userBulkService.activate(request);
+    }
+
     @Override
     public UserDTO changePassword(
             @Parameter(description = "ID do usuário") @PathVariable UUID id,
@@ -92,13 +191,72 @@ public class UserController implements UserControllerInterface {
     }
 
     @Override
-    public Long countActiveUsers() {
-        return userService.countActiveUsers();
+    public ResponseEntity<Long> countActiveUsers() {
+        return count(userService.countActiveUsers());
     }
 
     @Override
-    public Long countUsersByType(
+    public ResponseEntity<Long> countUsersByType(
             @Parameter(description = "ID do tipo de usuário") @PathVariable UUID typeUserId) {
-        return userService.countUsersByType(typeUserId);
+        return count(userService.countUsersByType(typeUserId));
+    }
+
+    /**
+     * Com If-None-Match, consulta só a versão e responde 304 se a ETag confere, sem carregar o usuário.
+     * Sem o cabeçalho, carrega o usuário uma única vez e calcula a ETag do próprio lastUpdatedAt.
+     * Usuário ausente ou inativo não tem ETag e segue para a busca completa, que gera o erro de sempre.
+     */
+    private static ResponseEntity<UserDTO> conditional(WebRequest request, Supplier<Optional<String>> etag, Supplier<UserDTO> loader) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            UserDTO user = loader.get();
+            request.checkNotModified(EntityTags.of(user.id(), user.lastUpdate()));
+            return ResponseEntity.ok().cacheControl(EntityTags.REVALIDATE).body(user);
+        }
+        Optional<String> current = etag.get();
+        if (current.isPresent() && request.checkNotModified(current.get())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(EntityTags.REVALIDATE).body(loader.get());
+    }
+
+    // Informa há quanto tempo os contadores foram conferidos com o banco
+    private ResponseEntity<Long> count(long value) {
+        Instant reconciledAt = userService.countsReconciledAt();
+        if (reconciledAt == null) {
+            return ResponseEntity.ok(value);
+        }
+        long stalenessSeconds = Math.max(0, Duration.between(reconciledAt, Instant.now()).toSeconds());
+        return ResponseEntity.ok()
+                .header("X-Count-Reconciled-At", reconciledAt.toString())
+                .header("X-Count-Staleness-Seconds", String.valueOf(stalenessSeconds))
+                .body(value);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // Escreve cada usuário como uma linha JSON assim que ele sai do cursor do banco
+    private void writeNdjson(OutputStream outputStream, Consumer<Consumer<UserDTO>> source) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(UserDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            int[] written = {0};
+            source.accept(user -> {
+                try {
+                    writer.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                    if (++written[0] % NDJSON_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
     }
 }
@@ -4,22 +4,38 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.postgresql.util.PSQLException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import com.fiap.itmoura.tech_challenge.config.datasource.ConnectionLimitExceededException;
 import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
 import com.fiap.itmoura.tech_challenge.exception.ConflictRequestException;
+import com.fiap.itmoura.tech_challenge.exception.RetryableRequestException;
+import com.fiap.itmoura.tech_challenge.exception.ServiceUnavailableException;
 import com.fiap.itmoura.tech_challenge.model.dto.ValidationErrorDTO;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
 @ControllerAdvice
+@RequiredArgsConstructor
 public class ControllerExceptionHandler {
 
+    private static final String DATABASE_OVERLOADED_MESSAGE = "Banco de dados sobrecarregado, tente novamente em instantes";
+
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorDTO> handlerMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
         var status = HttpStatus.BAD_REQUEST;
+        countError(status, ex);
         List<String> errors = new ArrayList<>();
         for (var error : ex.getBindingResult().getFieldErrors()) {
             errors.add(error.getField() + ": " + error.getDefaultMessage());
@@ -33,6 +49,7 @@ public class ControllerExceptionHandler {
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ValidationErrorDTO> handlerBadRequestException(BadRequestException ex) {
         var status = HttpStatus.BAD_REQUEST;
+        countError(status, ex);
         List<String> errors = new ArrayList<>();
         errors.add(ex.getMessage());
 
@@ -44,6 +61,7 @@ public class ControllerExceptionHandler {
     @ExceptionHandler(ConflictRequestException.class)
     public ResponseEntity<ValidationErrorDTO> handlerConflictRequestException(ConflictRequestException ex) {
         var status = HttpStatus.CONFLICT;
+        countError(status, ex);
         List<String> errors = new ArrayList<>();
         errors.add(ex.getMessage());
 
@@ -52,9 +70,35 @@ public class ControllerExceptionHandler {
                 .body(new ValidationErrorDTO(errors, status.value()));
     }
 
+    @ExceptionHandler(RetryableRequestException.class)
+    public ResponseEntity<ValidationErrorDTO> handlerRetryableRequestException(RetryableRequestException ex) {
+        var status = ex.getStatus();
+        countError(status, ex);
+        List<String> errors = new ArrayList<>();
+        errors.add(ex.getMessage());
+
+        return ResponseEntity
+                .status(status.value())
+                .header(HttpHeaders.RETRY_AFTER, ex.getRetryAfterSeconds())
+                .body(new ValidationErrorDTO(errors, status.value()));
+    }
+
+    /**
+     * Só a recusa do limitador de conexões vira 503; banco fora do ar ou recusando login segue como erro interno.
+     */
+    @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+    public ResponseEntity<ValidationErrorDTO> handlerConnectionUnavailableException(RuntimeException ex) {
+        ConnectionLimitExceededException rejected = ConnectionLimitExceededException.findIn(ex);
+        if (rejected == null) {
+            throw ex;
+        }
+        return handlerRetryableRequestException(new ServiceUnavailableException(DATABASE_OVERLOADED_MESSAGE, rejected.getRetryAfter()));
+    }
+
     @ExceptionHandler(PSQLException.class)
     public ResponseEntity<ValidationErrorDTO> handlerPSQLException(PSQLException ex) {
         var status = HttpStatus.INTERNAL_SERVER_ERROR;
+        countError(status, ex);
         List<String> errors = new ArrayList<>();
         errors.add("Database error: " + ex.getMessage());
 
@@ -63,4 +107,12 @@ public class ControllerExceptionHandler {
                 .body(new ValidationErrorDTO(errors, status.value()));
     }
 
+    private void countError(HttpStatus status, Exception ex) {
+        Counter.builder("api.errors")
+                .description("Respostas de erro tratadas pelo ControllerExceptionHandler")
+                .tag("status", String.valueOf(status.value()))
+                .tag("exception", ex.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
 }
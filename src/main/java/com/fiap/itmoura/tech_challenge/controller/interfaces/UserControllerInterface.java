@@ -1,11 +1,14 @@
 package com.fiap.itmoura.tech_challenge.controller.interfaces;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,12 +16,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fiap.itmoura.tech_challenge.model.dto.ChangeFeedDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.CursorPageDTO;
 import com.fiap.itmoura.tech_challenge.model.dto.OnCreate;
 import com.fiap.itmoura.tech_challenge.model.dto.OnUpdate;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBatchDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkRequestDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkResultDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserChangeDTO;
 import com.fiap.itmoura.tech_challenge.model.dto.UserDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserImportResultDTO;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,6 +50,13 @@ public interface UserControllerInterface {
     })
     List<UserDTO> findAll();
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Transmitir todos os usuários", description = "Transmite os usuários ativos em NDJSON, um usuário por linha, sem materializar a lista em memória")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Usuários transmitidos com sucesso")
+    })
+    ResponseEntity<StreamingResponseBody> streamAll();
+
     @GetMapping("/paginated")
     @Operation(summary = "Listar usuários paginados", description = "Retorna uma página de usuários ativos")
     @ApiResponses(value = {
@@ -43,21 +64,62 @@ public interface UserControllerInterface {
     })
     Page<UserDTO> findAllPaginated(@PageableDefault(size = 20) Pageable pageable);
 
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar usuários por cursor", description = "Retorna uma página de usuários ativos ordenada por data de criação, navegada por cursor opaco e sem contagem total")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de usuários retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválido")
+    })
+    CursorPageDTO<UserDTO> findAllByCursor(@Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor, @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size);
+
+    @GetMapping("/changes")
+    @Operation(summary = "Listar alterações de usuários", description = "Retorna os usuários, inclusive desativados, alterados depois da marca d'água informada, em ordem de alteração. Sem marca d'água, começa do início; guarde a marca d'água retornada para a próxima consulta")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Marca d'água ou tamanho de página inválido")
+    })
+    ChangeFeedDTO<UserChangeDTO> findChanges(@Parameter(description = "Marca d'água retornada pela consulta anterior") @RequestParam(required = false) String watermark, @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "100") int size);
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar eventos de usuários", description = "Envia por Server-Sent Events a criação, atualização, desativação, ativação e troca de senha de usuários, após o commit. Reconecte com o cabeçalho Last-Event-ID para receber os eventos perdidos; o evento resync indica que é preciso ressincronizar por /api/users/changes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Fluxo de eventos aberto")
+    })
+    SseEmitter streamEvents(@Parameter(description = "Id do último evento recebido") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId);
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar usuários por nome", description = "Busca usuários ativos cujo nome contém o texto informado, sem diferenciar maiúsculas e acentos. Resultados ordenados por relevância, limitados aos 1000 primeiros")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de usuários retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Texto de busca curto demais ou paginação inválida")
+    })
+    Page<UserDTO> searchByName(@Parameter(description = "Trecho do nome (mínimo 3 caracteres)") @RequestParam String name, @Parameter(description = "Número da página") @RequestParam(defaultValue = "0") int page, @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size);
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar usuário por ID", description = "Retorna um usuário específico pelo ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Usuário encontrado"),
+        @ApiResponse(responseCode = "304", description = "Usuário não mudou desde a ETag informada em If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Usuário não encontrado")
     })
-    UserDTO findById(@Parameter(description = "ID do usuário") @PathVariable UUID id);
+    ResponseEntity<UserDTO> findById(@Parameter(description = "ID do usuário") @PathVariable UUID id, WebRequest request);
+
+    @PostMapping("/batch")
+    @Operation(summary = "Buscar usuários por lista de IDs", description = "Retorna de uma vez até 500 usuários ativos, indexados pelo ID, e lista os IDs não encontrados ou inativos")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs vazia ou maior que o limite")
+    })
+    UserBatchDTO findAllByIds(@RequestBody List<UUID> ids);
 
     @GetMapping("/email/{email}")
     @Operation(summary = "Buscar usuário por email", description = "Retorna um usuário específico pelo email")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Usuário encontrado"),
+        @ApiResponse(responseCode = "304", description = "Usuário não mudou desde a ETag informada em If-None-Match"),
         @ApiResponse(responseCode = "400", description = "Usuário não encontrado")
     })
-    UserDTO findByEmail(@Parameter(description = "Email do usuário") @PathVariable String email);
+    ResponseEntity<UserDTO> findByEmail(@Parameter(description = "Email do usuário") @PathVariable String email, WebRequest request);
 
     @GetMapping("/type/{typeUserId}")
     @Operation(summary = "Buscar usuários por tipo", description = "Retorna todos os usuários de um tipo específico")
@@ -66,6 +128,13 @@ public interface UserControllerInterface {
     })
     List<UserDTO> findByTypeUserId(@Parameter(description = "ID do tipo de usuário") @PathVariable UUID typeUserId);
 
+    @GetMapping(value = "/type/{typeUserId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Transmitir usuários por tipo", description = "Transmite em NDJSON os usuários ativos de um tipo específico")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Usuários transmitidos com sucesso")
+    })
+    ResponseEntity<StreamingResponseBody> streamByTypeUserId(@Parameter(description = "ID do tipo de usuário") @PathVariable UUID typeUserId);
+
     @PostMapping
     @Operation(summary = "Criar novo usuário", description = "Cria um novo usuário")
     @ApiResponses(value = {
@@ -75,6 +144,14 @@ public interface UserControllerInterface {
     })
     UserDTO create(@Validated(OnCreate.class) @RequestBody UserDTO userDTO);
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Importar usuários via CSV", description = "Cria usuários em lote a partir de um CSV com cabeçalho (name,email,password,phone,birthDate,typeUserId,street,number,complement,neighborhood,city,state,zipCode). O arquivo é processado em streaming e gravado em lotes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação processada; linhas rejeitadas constam no relatório"),
+        @ApiResponse(responseCode = "400", description = "Arquivo CSV inválido")
+    })
+    UserImportResultDTO importCsv(@Parameter(hidden = true) InputStream csv);
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar usuário", description = "Atualiza um usuário existente")
     @ApiResponses(value = {
@@ -100,6 +177,22 @@ public interface UserControllerInterface {
     })
     void activate(@Parameter(description = "ID do usuário") @PathVariable UUID id);
 
+    @PatchMapping("/bulk/deactivate")
+    @Operation(summary = "Desativar usuários em massa", description = "Desativa em lotes os usuários de uma lista de IDs ou de um filtro (tipo e/ou período de criação)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Quantidade de usuários desativados e de já inativos ou inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs e filtro ausentes, informados juntos ou inválidos")
+    })
+    UserBulkResultDTO deactivateAll(@RequestBody UserBulkRequestDTO request);
+
+    @PatchMapping("/bulk/activate")
+    @Operation(summary = "Ativar usuários em massa", description = "Ativa em lotes os usuários de uma lista de IDs ou de um filtro (tipo e/ou período de criação)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Quantidade de usuários ativados e de já ativos ou inexistentes"),
+        @ApiResponse(responseCode = "400", description = "Lista de IDs e filtro ausentes, informados juntos ou inválidos")
+    })
+    UserBulkResultDTO activateAll(@RequestBody UserBulkRequestDTO request);
+
     @PatchMapping("/{id}/change-password")
     @Operation(summary = "Alterar senha", description = "Altera a senha de um usuário")
     @ApiResponses(value = {
@@ -109,17 +202,17 @@ public interface UserControllerInterface {
     UserDTO changePassword(@Parameter(description = "ID do usuário") @PathVariable UUID id, @Parameter(description = "Senha atual") @RequestParam String currentPassword, @Parameter(description = "Nova senha") @RequestParam String newPassword);
 
     @GetMapping("/count")
-    @Operation(summary = "Contar usuários ativos", description = "Retorna o número total de usuários ativos")
+    @Operation(summary = "Contar usuários ativos", description = "Retorna o número total de usuários ativos a partir de contadores em memória. Os cabeçalhos X-Count-Reconciled-At e X-Count-Staleness-Seconds indicam a última conferência com o banco")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Contagem retornada com sucesso")
     })
-    Long countActiveUsers();
+    ResponseEntity<Long> countActiveUsers();
 
     @GetMapping("/count/type/{typeUserId}")
-    @Operation(summary = "Contar usuários por tipo", description = "Retorna o número de usuários de um tipo específico")
+    @Operation(summary = "Contar usuários por tipo", description = "Retorna o número de usuários ativos de um tipo específico a partir de contadores em memória, com os mesmos cabeçalhos de defasagem da contagem total")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Contagem retornada com sucesso")
     })
-    Long countUsersByType(@Parameter(description = "ID do tipo de usuário") @PathVariable UUID typeUserId);
+    ResponseEntity<Long> countUsersByType(@Parameter(description = "ID do tipo de usuário") @PathVariable UUID typeUserId);
 
 }
\ No newline at end of file
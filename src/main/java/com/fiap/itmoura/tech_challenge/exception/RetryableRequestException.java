@@ -0,0 +1,35 @@
+package com.fiap.itmoura.tech_challenge.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Recusa temporária por sobrecarga: carrega o status da resposta e o tempo sugerido para o cliente tentar de novo.
+ */
+public abstract class RetryableRequestException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final Duration retryAfter;
+
+    protected RetryableRequestException(HttpStatus status, String message, Duration retryAfter) {
+        super(message);
+        this.status = status;
+        this.retryAfter = retryAfter;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Valor do cabeçalho Retry-After, em segundos inteiros (mínimo 1).
+     */
+    public String getRetryAfterSeconds() {
+        return String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+    }
+}
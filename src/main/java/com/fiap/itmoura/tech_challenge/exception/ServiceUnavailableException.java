@@ -0,0 +1,12 @@
+package com.fiap.itmoura.tech_challenge.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends RetryableRequestException {
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message, retryAfter);
+    }
+}
@@ -0,0 +1,12 @@
+package com.fiap.itmoura.tech_challenge.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends RetryableRequestException {
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message, retryAfter);
+    }
+}
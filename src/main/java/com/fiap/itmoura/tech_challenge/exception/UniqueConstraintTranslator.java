@@ -0,0 +1,61 @@
+package com.fiap.itmoura.tech_challenge.exception;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Converte violações das constraints únicas de usuários na {@link ConflictRequestException} do campo afetado.
+ * Reconhece pelo nome da constraint e, para bancos criados antes dos nomes explícitos, pela coluna citada na mensagem.
+ * Qualquer outra violação (tamanho de coluna, chave estrangeira, NOT NULL) não é conflito e segue inalterada.
+ */
+public final class UniqueConstraintTranslator {
+
+    public static final String USERS_EMAIL = "uk_users_email";
+    public static final String USERS_PHONE = "uk_users_phone";
+
+    public static final String EMAIL_CONFLICT_MESSAGE = "Já existe um usuário com este email";
+    public static final String PHONE_CONFLICT_MESSAGE = "Já existe um usuário com este telefone";
+
+    private UniqueConstraintTranslator() {
+    }
+
+    /**
+     * Retorna a {@link ConflictRequestException} do campo duplicado, ou a própria exceção se não for uma das constraints únicas.
+     */
+    public static RuntimeException translate(DataIntegrityViolationException ex) {
+        return conflictMessage(ex)
+                .<RuntimeException>map(message -> new ConflictRequestException(message, ex))
+                .orElse(ex);
+    }
+
+    public static Optional<String> conflictMessage(DataIntegrityViolationException ex) {
+        String constraint = constraintName(ex);
+        if (constraint.contains(USERS_EMAIL)) {
+            return Optional.of(EMAIL_CONFLICT_MESSAGE);
+        }
+        if (constraint.contains(USERS_PHONE)) {
+            return Optional.of(PHONE_CONFLICT_MESSAGE);
+        }
+
+        String detail = String.valueOf(ex.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (detail.contains("(email")) {
+            return Optional.of(EMAIL_CONFLICT_MESSAGE);
+        }
+        if (detail.contains("(phone")) {
+            return Optional.of(PHONE_CONFLICT_MESSAGE);
+        }
+        return Optional.empty();
+    }
+
+    private static String constraintName(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return "";
+    }
+}
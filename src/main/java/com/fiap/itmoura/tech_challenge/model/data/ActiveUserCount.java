@@ -0,0 +1,9 @@
+package com.fiap.itmoura.tech_challenge.model.data;
+
+import java.util.UUID;
+
+/**
+ * Total de usuários ativos de um tipo ({@code typeUserId} nulo para usuários sem tipo).
+ */
+public record ActiveUserCount(UUID typeUserId, Long total) {
+}
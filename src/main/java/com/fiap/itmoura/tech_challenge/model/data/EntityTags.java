@@ -0,0 +1,60 @@
+package com.fiap.itmoura.tech_challenge.model.data;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.CacheControl;
+
+/**
+ * ETags fortes derivadas do id e do instante da última alteração persistida.
+ */
+public final class EntityTags {
+
+    /**
+     * Permite ao cliente guardar a resposta, mas exige revalidação com If-None-Match a cada uso.
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final int COLLECTION_TAG_BYTES = 12;
+
+    private EntityTags() {
+    }
+
+    /**
+     * Instante atual na precisão em que o banco guarda timestamps (microssegundos). Sem o corte, o Postgres
+     * arredonda os nanos e a ETag montada com o valor em memória difere da montada com o valor lido do banco.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Sem instante de alteração (linha nunca atualizada pela aplicação) a ETag usa zero; a primeira escrita a troca.
+     */
+    public static String of(UUID id, LocalDateTime updatedAt) {
+        long micros = updatedAt != null
+                ? updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000
+                : 0;
+        return "\"" + id + "-" + Long.toString(micros, 36) + "\"";
+    }
+
+    /**
+     * ETag de uma coleção: resumo SHA-256 das ETags dos itens, na ordem em que são retornados.
+     */
+    public static String ofAll(List<String> tags) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            tags.forEach(tag -> digest.update(tag.getBytes(StandardCharsets.US_ASCII)));
+            return "\"" + tags.size() + "-" + HexFormat.of().formatHex(digest.digest(), 0, COLLECTION_TAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.fiap.itmoura.tech_challenge.model.data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fiap.itmoura.tech_challenge.model.dto.TypeUsersDTO;
+import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
+
+/**
+ * Cópia imutável de um tipo de usuário mantida pelo registro em memória.
+ */
+public record TypeUserData(UUID id, String name, String description, LocalDateTime createdAt,
+        LocalDateTime updatedAt, boolean active) {
+
+    public static TypeUserData fromEntity(TypeUsers typeUser) {
+        return new TypeUserData(typeUser.getId(), typeUser.getName(), typeUser.getDescription(),
+                typeUser.getCreatedAt(), typeUser.getUpdatedAt(), Boolean.TRUE.equals(typeUser.getIsActive()));
+    }
+
+    public String etag() {
+        return EntityTags.of(id, updatedAt);
+    }
+
+    public TypeUsersDTO toDTO() {
+        return TypeUsersDTO.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .isActive(active)
+                .build();
+    }
+}
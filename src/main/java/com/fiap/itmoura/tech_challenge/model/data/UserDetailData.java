@@ -1,32 +1,34 @@
 package com.fiap.itmoura.tech_challenge.model.data;
 
-import com.fiap.itmoura.tech_challenge.model.entity.Users;
-import lombok.RequiredArgsConstructor;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Optional;
+/**
+ * Dados de autenticação de um usuário, lidos sem hidratar a entidade. Imutável, pode ser compartilhado
+ * entre threads pelo cache de login.
+ */
+public record UserDetailData(UUID id, String email, String password, Boolean isActive) implements UserDetails {
 
-@RequiredArgsConstructor
-public class UserDetailData implements UserDetails {
-
-    private final Optional<Users> user;
+    public static final String SELECT = "SELECT new com.fiap.itmoura.tech_challenge.model.data.UserDetailData("
+            + "u.id, u.email, u.password, u.isActive) FROM users u ";
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return new ArrayList<>();
+        return List.of();
     }
 
     @Override
     public String getPassword() {
-        return user.orElse(new Users()).getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.orElse(new Users()).getEmail();
+        return email;
     }
 
     @Override
@@ -46,6 +48,6 @@ public class UserDetailData implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return Boolean.TRUE.equals(isActive);
     }
 }
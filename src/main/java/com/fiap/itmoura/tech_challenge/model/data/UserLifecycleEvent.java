@@ -0,0 +1,12 @@
+package com.fiap.itmoura.tech_challenge.model.data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fiap.itmoura.tech_challenge.model.enums.UserEventType;
+
+/**
+ * Evento de aplicação publicado pelo {@code UserService} a cada escrita de usuário; entregue aos assinantes após o commit.
+ */
+public record UserLifecycleEvent(UserEventType type, UUID userId, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,9 @@
+package com.fiap.itmoura.tech_challenge.model.data;
+
+import java.util.UUID;
+
+/**
+ * Projeção mínima (id e nome) usada para construir o índice de busca por nome.
+ */
+public record UserNameData(UUID id, String name) {
+}
@@ -0,0 +1,13 @@
+package com.fiap.itmoura.tech_challenge.model.data;
+
+import java.util.UUID;
+
+/**
+ * Chaves de um usuário nas estruturas em memória (cache de login, índice de nomes e contadores por tipo),
+ * lidas antes de uma mudança de situação em massa.
+ */
+public record UserStatusData(UUID id, String email, String name, UUID typeUserId) {
+
+    public static final String SELECT = "SELECT new com.fiap.itmoura.tech_challenge.model.data.UserStatusData("
+            + "u.id, u.email, u.name, u.typeUser.id) FROM users u ";
+}
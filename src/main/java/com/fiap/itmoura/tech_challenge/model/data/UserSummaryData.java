@@ -0,0 +1,34 @@
+package com.fiap.itmoura.tech_challenge.model.data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção com as colunas das respostas de usuário (sem o hash de senha), lida numa única consulta com o endereço.
+ * Os campos do endereço vêm nulos quando o usuário não tem endereço.
+ */
+public record UserSummaryData(
+        UUID id,
+        String name,
+        String email,
+        String phone,
+        LocalDate birthDate,
+        UUID typeUserId,
+        LocalDateTime createdAt,
+        LocalDateTime lastUpdatedAt,
+        Boolean isActive,
+        UUID addressId,
+        String street,
+        String neighborhood,
+        String complement,
+        Integer number,
+        String city,
+        String state,
+        String zipCode) {
+
+    public static final String SELECT = "SELECT new com.fiap.itmoura.tech_challenge.model.data.UserSummaryData("
+            + "u.id, u.name, u.email, u.phone, u.birthDate, u.typeUser.id, u.createdAt, u.lastUpdatedAt, u.isActive, "
+            + "a.id, a.street, a.neighborhood, a.complement, a.number, a.city, a.state, a.zipCode) "
+            + "FROM users u LEFT JOIN u.address a ";
+}
@@ -0,0 +1,20 @@
+package com.fiap.itmoura.tech_challenge.model.data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Versão de um usuário (id, última alteração e situação), lida sem hidratar a entidade para responder GETs condicionais.
+ */
+public record UserVersionData(UUID id, LocalDateTime lastUpdatedAt, Boolean isActive) {
+
+    public static final String SELECT = "SELECT new com.fiap.itmoura.tech_challenge.model.data.UserVersionData("
+            + "u.id, u.lastUpdatedAt, u.isActive) FROM users u ";
+
+    /**
+     * ETag forte do usuário: muda a cada alteração persistida, já que toda escrita atualiza lastUpdatedAt.
+     */
+    public String etag() {
+        return EntityTags.of(id, lastUpdatedAt);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fiap.itmoura.tech_challenge.model.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Página de alterações posteriores a uma marca d'água")
+public record ChangeFeedDTO<T>(
+
+        @Schema(description = "Itens alterados, do mais antigo para o mais recente")
+        List<T> content,
+
+        @Schema(description = "Marca d'água opaca a enviar na próxima consulta; repete a recebida quando não há alterações", example = "MjAyNC0wMS0wMVQxMDowMHwxMjNlNDU2Nw")
+        String watermark,
+
+        @Schema(description = "Quantidade de itens retornados", example = "100")
+        int size,
+
+        @Schema(description = "Indica se já existem mais alterações a buscar com a nova marca d'água", example = "false")
+        boolean hasMore
+) {
+}
@@ -0,0 +1,22 @@
+package com.fiap.itmoura.tech_challenge.model.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Página de resultados navegada por cursor")
+public record CursorPageDTO<T>(
+
+        @Schema(description = "Itens da página")
+        List<T> content,
+
+        @Schema(description = "Cursor opaco para buscar a próxima página; nulo quando não há mais itens", example = "MjAyNC0wMS0wMVQxMDowMHwxMjNlNDU2Nw")
+        String nextCursor,
+
+        @Schema(description = "Quantidade de itens retornados", example = "20")
+        int size,
+
+        @Schema(description = "Indica se existe uma próxima página", example = "true")
+        boolean hasNext
+) {
+}
@@ -0,0 +1,18 @@
+package com.fiap.itmoura.tech_challenge.model.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado da busca de usuários por uma lista de IDs")
+public record UserBatchDTO(
+
+        @Schema(description = "Usuários encontrados, indexados pelo ID, na ordem em que foram pedidos")
+        Map<UUID, UserDTO> found,
+
+        @Schema(description = "IDs pedidos que não existem ou pertencem a usuários inativos")
+        List<UUID> missing
+) {
+}
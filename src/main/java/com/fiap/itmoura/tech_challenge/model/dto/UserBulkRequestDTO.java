@@ -0,0 +1,24 @@
+package com.fiap.itmoura.tech_challenge.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Seleção de usuários para ativação ou desativação em massa: lista de IDs ou filtro, nunca os dois")
+public record UserBulkRequestDTO(
+
+        @Schema(description = "IDs dos usuários")
+        List<UUID> ids,
+
+        @Schema(description = "Filtro: ID do tipo de usuário", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID typeUserId,
+
+        @Schema(description = "Filtro: criados a partir deste instante (inclusive)", example = "2024-01-01T00:00:00")
+        LocalDateTime createdFrom,
+
+        @Schema(description = "Filtro: criados antes deste instante (exclusive)", example = "2024-07-01T00:00:00")
+        LocalDateTime createdTo
+) {
+}
@@ -0,0 +1,14 @@
+package com.fiap.itmoura.tech_challenge.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de uma ativação ou desativação em massa")
+public record UserBulkResultDTO(
+
+        @Schema(description = "Usuários que mudaram de situação", example = "1500")
+        long affected,
+
+        @Schema(description = "Na seleção por IDs: IDs inexistentes ou que já estavam na situação pedida", example = "3")
+        long unchanged
+) {
+}
@@ -0,0 +1,19 @@
+package com.fiap.itmoura.tech_challenge.model.dto;
+
+import com.fiap.itmoura.tech_challenge.model.data.UserSummaryData;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Estado atual de um usuário alterado, inclusive desativado")
+public record UserChangeDTO(
+
+        @Schema(description = "Dados do usuário")
+        UserDTO user,
+
+        @Schema(description = "Falso quando o usuário foi desativado", example = "true")
+        boolean active
+) {
+    public static UserChangeDTO fromSummary(UserSummaryData summary) {
+        return new UserChangeDTO(UserDTO.fromSummary(summary), Boolean.TRUE.equals(summary.isActive()));
+    }
+}
@@ -8,6 +8,8 @@ import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fiap.itmoura.tech_challenge.model.data.EntityTags;
+import com.fiap.itmoura.tech_challenge.model.data.UserSummaryData;
 import com.fiap.itmoura.tech_challenge.model.entity.Users;
 import com.fiap.itmoura.tech_challenge.model.enums.UserRoleEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -80,8 +82,8 @@ public record UserDTO(
                     .address(address != null ? address.toEntity() : null)
                     .birthDate(birthDate)
                     .phone(phone)
-                    .lastUpdatedAt(LocalDateTime.now())
-                    .createdAt(createdAt != null ? createdAt : LocalDateTime.now())
+                    .lastUpdatedAt(EntityTags.now())
+                    .createdAt(createdAt != null ? createdAt : EntityTags.now())
                     .build();
         }
 
@@ -100,4 +102,24 @@ public record UserDTO(
                     users.getCreatedAt()
             );
         }
+
+        public static UserDTO fromSummary(UserSummaryData summary) {
+            AddressDTO address = summary.addressId() != null
+                    ? new AddressDTO(summary.addressId(), summary.street(), summary.neighborhood(), summary.complement(),
+                            summary.number(), summary.city(), summary.state(), summary.zipCode())
+                    : null;
+            return new UserDTO(
+                    summary.id(),
+                    summary.name(),
+                    summary.email(),
+                    null,
+                    null,
+                    address,
+                    summary.birthDate(),
+                    summary.phone(),
+                    summary.typeUserId(),
+                    summary.lastUpdatedAt(),
+                    summary.createdAt()
+            );
+        }
 }
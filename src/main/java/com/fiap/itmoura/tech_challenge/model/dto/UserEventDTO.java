@@ -0,0 +1,25 @@
+package com.fiap.itmoura.tech_challenge.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fiap.itmoura.tech_challenge.model.enums.UserEventType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Evento de ciclo de vida de um usuário, enviado por Server-Sent Events")
+public record UserEventDTO(
+
+        @Schema(description = "Identificador sequencial do evento, repetido no campo id do SSE", example = "1729230000000001")
+        long id,
+
+        @Schema(description = "Tipo do evento", example = "UPDATED")
+        UserEventType type,
+
+        @Schema(description = "ID do usuário afetado", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID userId,
+
+        @Schema(description = "Instante da alteração", example = "2024-10-01T12:00:00")
+        LocalDateTime occurredAt
+) {
+}
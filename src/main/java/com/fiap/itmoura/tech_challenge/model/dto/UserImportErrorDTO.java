@@ -0,0 +1,19 @@
+package com.fiap.itmoura.tech_challenge.model.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Erro de importação de uma linha do CSV")
+public record UserImportErrorDTO(
+
+        @Schema(description = "Linha do arquivo onde o registro começa", example = "42")
+        long line,
+
+        @Schema(description = "Email informado na linha", example = "joao@email.com")
+        String email,
+
+        @Schema(description = "Motivos da rejeição")
+        List<String> errors
+) {
+}
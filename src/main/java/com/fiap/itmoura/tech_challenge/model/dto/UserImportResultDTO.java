@@ -0,0 +1,31 @@
+package com.fiap.itmoura.tech_challenge.model.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado da importação em lote de usuários")
+public record UserImportResultDTO(
+
+        @Schema(description = "Registros lidos do arquivo", example = "100000")
+        long totalRows,
+
+        @Schema(description = "Usuários criados", example = "99950")
+        long imported,
+
+        @Schema(description = "Registros rejeitados", example = "50")
+        long failed,
+
+        @Schema(description = "Tempo total da importação em milissegundos", example = "42000")
+        long elapsedMillis,
+
+        @Schema(description = "Vazão de usuários criados por segundo", example = "2379.8")
+        double rowsPerSecond,
+
+        @Schema(description = "Erros por linha, limitados ao máximo configurado")
+        List<UserImportErrorDTO> errors,
+
+        @Schema(description = "Indica se a lista de erros foi truncada", example = "false")
+        boolean errorsTruncated
+) {
+}
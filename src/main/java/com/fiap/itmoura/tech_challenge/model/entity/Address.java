@@ -1,8 +1,9 @@
 package com.fiap.itmoura.tech_challenge.model.entity;
 
+import com.fiap.itmoura.tech_challenge.model.entity.id.UuidV7;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +19,7 @@ import java.util.UUID;
 @AllArgsConstructor
 public class Address{
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     private String street;
@@ -1,11 +1,13 @@
 package com.fiap.itmoura.tech_challenge.model.entity;
 
+import com.fiap.itmoura.tech_challenge.model.data.EntityTags;
+import com.fiap.itmoura.tech_challenge.model.entity.id.UuidV7;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -22,7 +24,7 @@ import lombok.NoArgsConstructor;
 public class TypeUsers {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     @Column(nullable = false)
     private UUID id;
 
@@ -44,12 +46,12 @@ public class TypeUsers {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = EntityTags.now();
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = EntityTags.now();
     }
 }
@@ -1,5 +1,8 @@
 package com.fiap.itmoura.tech_challenge.model.entity;
 
+import com.fiap.itmoura.tech_challenge.model.data.EntityTags;
+import com.fiap.itmoura.tech_challenge.model.entity.id.UuidV7;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -8,38 +11,47 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_active_created_at_id", columnList = "is_active, created_at, id"),
+        @Index(name = "idx_users_last_updated_at_id", columnList = "last_updated_at, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_users_phone", columnNames = "phone")
+})
 @Builder
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Users {
     @Id
-    @GeneratedValue
+    @UuidV7
     @Column(nullable = false)
     private UUID id;
 
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String phone;
 
     @Column
@@ -64,12 +76,12 @@ public class Users {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        lastUpdatedAt = LocalDateTime.now();
+        createdAt = EntityTags.now();
+        lastUpdatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        lastUpdatedAt = LocalDateTime.now();
+        lastUpdatedAt = EntityTags.now();
     }
 }
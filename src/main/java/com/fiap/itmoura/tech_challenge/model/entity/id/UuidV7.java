@@ -0,0 +1,20 @@
+package com.fiap.itmoura.tech_challenge.model.entity.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Gera o identificador como UUID versão 7 (RFC 9562), ordenado pelo instante de criação.
+ * Substitui o {@code @GeneratedValue} aleatório (v4) mantendo a coluna do tipo UUID.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,60 @@
+package com.fiap.itmoura.tech_challenge.model.entity.id;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    // Últimos 48 bits de timestamp (ms) seguidos de 12 bits de contador, para ids monotônicos no mesmo milissegundo
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public static UUID generate() {
+        long timestampAndCounter = nextTimestampAndCounter();
+        long timestamp = timestampAndCounter >>> COUNTER_BITS;
+        long counter = timestampAndCounter & COUNTER_MASK;
+
+        long mostSigBits = (timestamp << 16) | 0x7000L | counter;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long nextTimestampAndCounter() {
+        while (true) {
+            long now = System.currentTimeMillis();
+            long previous = LAST_TIMESTAMP_AND_COUNTER.get();
+            long next;
+            if (now > previous >>> COUNTER_BITS) {
+                // Novo milissegundo: contador parte de um valor aleatório na metade inferior para deixar espaço de incremento
+                next = (now << COUNTER_BITS) | RANDOM.nextInt(1 << (COUNTER_BITS - 1));
+            } else {
+                // Mesmo milissegundo ou relógio voltou: incrementa; o estouro do contador avança o timestamp
+                next = previous + 1;
+            }
+            if (LAST_TIMESTAMP_AND_COUNTER.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.fiap.itmoura.tech_challenge.model.enums;
+
+public enum UserEventType {
+
+    CREATED,
+    UPDATED,
+    DEACTIVATED,
+    ACTIVATED,
+    PASSWORD_CHANGED
+
+}
@@ -1,33 +1,141 @@
 package com.fiap.itmoura.tech_challenge.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fiap.itmoura.tech_challenge.model.data.ActiveUserCount;
+import com.fiap.itmoura.tech_challenge.model.data.UserDetailData;
+import com.fiap.itmoura.tech_challenge.model.data.UserNameData;
+import com.fiap.itmoura.tech_challenge.model.data.UserSummaryData;
+import com.fiap.itmoura.tech_challenge.model.data.UserVersionData;
 import com.fiap.itmoura.tech_challenge.model.entity.Users;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<Users, UUID> {
+
+    int STREAM_FETCH_SIZE = 500;
     
-    Optional<Users> findByEmail(String email);
+    @Query(UserDetailData.SELECT + "WHERE u.email = :email")
+    Optional<UserDetailData> findDetailByEmail(@Param("email") String email);
     
     boolean existsByEmail(String email);
     
     boolean existsByPhone(String phone);
+
+    /**
+     * Troca o hash somente se ele não mudou desde a leitura (rehash no login concorrendo com troca de senha).
+     * Não altera lastUpdatedAt: o rehash não é uma alteração visível do usuário.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE users u SET u.password = :newPassword WHERE u.email = :email AND u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("email") String email, @Param("currentPassword") String currentPassword,
+            @Param("newPassword") String newPassword);
+
+    /**
+     * Muda a situação de um lote numa única instrução; lastUpdatedAt é gravado aqui porque o UPDATE em massa não passa pelo @PreUpdate.
+     */
+    @Modifying
+    @Query("UPDATE users u SET u.isActive = :active, u.lastUpdatedAt = :updatedAt WHERE u.id IN :ids AND u.isActive <> :active")
+    int updateActiveByIdIn(@Param("ids") Collection<UUID> ids, @Param("active") boolean active,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT u.email FROM users u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.phone FROM users u WHERE u.phone IN :phones")
+    List<String> findExistingPhones(@Param("phones") Collection<String> phones);
     
     Page<Users> findByIsActiveTrue(Pageable pageable);
+
+    // Projeções das leituras da API: só as colunas da resposta, com o endereço no mesmo SELECT
+    @Query(UserSummaryData.SELECT + "WHERE u.id = :id")
+    Optional<UserSummaryData> findSummaryById(@Param("id") UUID id);
+
+    @Query(UserSummaryData.SELECT + "WHERE u.email = :email")
+    Optional<UserSummaryData> findSummaryByEmail(@Param("email") String email);
+
+    @Query(UserVersionData.SELECT + "WHERE u.id = :id")
+    Optional<UserVersionData> findVersionById(@Param("id") UUID id);
+
+    @Query(UserVersionData.SELECT + "WHERE u.email = :email")
+    Optional<UserVersionData> findVersionByEmail(@Param("email") String email);
+
+    @Query(UserSummaryData.SELECT + "WHERE u.id IN :ids AND u.isActive = true")
+    List<UserSummaryData> findActiveSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(UserSummaryData.SELECT + "WHERE u.isActive = true")
+    List<UserSummaryData> findActiveSummaries();
+
+    @Query(UserSummaryData.SELECT + "WHERE u.typeUser.id = :typeUserId AND u.isActive = true")
+    List<UserSummaryData> findActiveSummariesByTypeUserId(@Param("typeUserId") UUID typeUserId);
+
+    @Query(value = UserSummaryData.SELECT + "WHERE u.isActive = true",
+            countQuery = "SELECT COUNT(u) FROM users u WHERE u.isActive = true")
+    Page<UserSummaryData> findActiveSummaries(Pageable pageable);
     
-    @Query("SELECT u FROM users u WHERE u.typeUser.id = :typeUserId AND u.isActive = true")
-    List<Users> findByTypeUserIdAndIsActiveTrue(@Param("typeUserId") UUID typeUserId);
+    @Query("SELECT u FROM users u LEFT JOIN FETCH u.address WHERE u.isActive = true ORDER BY u.createdAt, u.id")
+    List<Users> findActiveFirstPage(Pageable pageable);
+
+    // Comparação de tupla: vira um único início de faixa em idx_users_active_created_at_id, sem filtrar as linhas anteriores
+    @Query("SELECT u FROM users u LEFT JOIN FETCH u.address WHERE u.isActive = true "
+            + "AND (u.createdAt, u.id) > (:createdAt, :id) "
+            + "ORDER BY u.createdAt, u.id")
+    List<Users> findActivePageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+    
+    @Query(UserSummaryData.SELECT + "WHERE u.lastUpdatedAt <= :settledBefore ORDER BY u.lastUpdatedAt, u.id")
+    List<UserSummaryData> findChangesFromStart(@Param("settledBefore") LocalDateTime settledBefore, Pageable pageable);
+
+    // Comparação de tupla para a busca começar direto na posição da marca d'água em idx_users_last_updated_at_id
+    @Query(UserSummaryData.SELECT + "WHERE (u.lastUpdatedAt, u.id) > (:lastUpdatedAt, :id) "
+            + "AND u.lastUpdatedAt <= :settledBefore ORDER BY u.lastUpdatedAt, u.id")
+    List<UserSummaryData> findChangesAfter(@Param("lastUpdatedAt") LocalDateTime lastUpdatedAt, @Param("id") UUID id,
+            @Param("settledBefore") LocalDateTime settledBefore, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM users u LEFT JOIN FETCH u.address WHERE u.isActive = true")
+    Stream<Users> streamAllActive();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM users u LEFT JOIN FETCH u.address WHERE u.typeUser.id = :typeUserId AND u.isActive = true")
+    Stream<Users> streamActiveByTypeUserId(@Param("typeUserId") UUID typeUserId);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.fiap.itmoura.tech_challenge.model.data.UserNameData(u.id, u.name) FROM users u WHERE u.isActive = true")
+    Stream<UserNameData> streamActiveNames();
     
     long countByIsActiveTrue();
+
+    @Query("SELECT new com.fiap.itmoura.tech_challenge.model.data.ActiveUserCount(t.id, COUNT(u)) "
+            + "FROM users u LEFT JOIN u.typeUser t WHERE u.isActive = true GROUP BY t.id")
+    List<ActiveUserCount> countActiveGroupedByType();
     
     @Query("SELECT COUNT(u) FROM users u WHERE u.typeUser.id = :typeUserId AND u.isActive = true")
     long countByTypeUserIdAndIsActiveTrue(@Param("typeUserId") UUID typeUserId);
@@ -0,0 +1,128 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
+
+/**
+ * Leitor de CSV (RFC 4180) que consome o arquivo registro a registro, sem carregá-lo inteiro em memória.
+ * A primeira linha deve ser o cabeçalho; as colunas são acessadas pelo nome.
+ */
+public class CsvReader implements AutoCloseable {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> header = new HashMap<>();
+    private long lineNumber;
+
+    public CsvReader(Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        var headerRecord = next();
+        if (headerRecord == null) {
+            throw new BadRequestException("Arquivo CSV vazio");
+        }
+        var columns = headerRecord.values();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).strip().replace("\uFEFF", "").toLowerCase(Locale.ROOT), i);
+        }
+    }
+
+    /**
+     * Lê o próximo registro ou retorna {@code null} no fim do arquivo. Linhas em branco são ignoradas.
+     */
+    public Row next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        long startLine = lineNumber;
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Campo entre aspas que continua na próxima linha
+                line = reader.readLine();
+                lineNumber++;
+                if (line == null) {
+                    throw new BadRequestException("Aspas não fechadas no registro da linha " + startLine);
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"' && i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        values.add(field.toString());
+        return new Row(startLine, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    public class Row {
+
+        private final long line;
+        private final List<String> values;
+
+        private Row(long line, List<String> values) {
+            this.line = line;
+            this.values = values;
+        }
+
+        public long line() {
+            return line;
+        }
+
+        List<String> values() {
+            return values;
+        }
+
+        /**
+         * Valor da coluna sem espaços nas pontas, ou {@code null} se a coluna não existir ou estiver vazia.
+         */
+        public String get(String column) {
+            var index = header.get(column.toLowerCase(Locale.ROOT));
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            var value = values.get(index).strip();
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
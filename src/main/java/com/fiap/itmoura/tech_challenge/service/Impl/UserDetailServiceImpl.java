@@ -2,6 +2,7 @@ package com.fiap.itmoura.tech_challenge.service.Impl;
 
 import com.fiap.itmoura.tech_challenge.model.data.UserDetailData;
 import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+import com.fiap.itmoura.tech_challenge.service.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,14 +14,15 @@ import org.springframework.stereotype.Component;
 public class UserDetailServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var user = userRepository.findByEmail(username);
-        if (user.isEmpty()) {
-            throw new UsernameNotFoundException("User ["+ username + "] not found");
-        }
+        return userDetailsCache.get(username, this::loadFromRepository);
+    }
 
-        return new UserDetailData(user);
+    private UserDetailData loadFromRepository(String username) {
+        return userRepository.findDetailByEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User ["+ username + "] not found"));
     }
 }
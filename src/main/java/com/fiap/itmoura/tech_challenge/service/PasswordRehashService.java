@@ -0,0 +1,99 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge.config.security.BoundedPasswordEncoder;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Regrava em segundo plano, após um login bem-sucedido, hashes de senha com algoritmo ou custo desatualizados.
+ * O login nunca espera pelo rehash: se o pool de hash estiver cheio, a migração fica para o próximo login.
+ */
+@Slf4j
+@Component
+public class PasswordRehashService {
+
+    private final UserRepository userRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writer = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter upgraded;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public PasswordRehashService(UserRepository userRepository, BoundedPasswordEncoder passwordEncoder,
+            UserDetailsCache userDetailsCache, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
+        this.upgraded = rehashCounter(meterRegistry, "upgraded");
+        this.skipped = rehashCounter(meterRegistry, "skipped");
+        this.failed = rehashCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * Agenda o rehash se o hash atual precisar de atualização; retorna imediatamente.
+     */
+    public void rehashIfNeeded(String email, String currentHash, String rawPassword) {
+        if (currentHash == null || rawPassword == null || !passwordEncoder.upgradeEncoding(currentHash)) {
+            return;
+        }
+        if (!inFlight.add(email)) {
+            return;
+        }
+
+        Optional<CompletableFuture<String>> hashing = passwordEncoder.encodeIfAvailable(rawPassword);
+        if (hashing.isEmpty()) {
+            inFlight.remove(email);
+            skipped.increment();
+            log.debug("Pool de hash cheio, rehash da senha de {} adiado", email);
+            return;
+        }
+
+        hashing.get()
+                .thenAcceptAsync(newHash -> store(email, currentHash, newHash), writer)
+                .whenComplete((result, error) -> {
+                    inFlight.remove(email);
+                    if (error != null) {
+                        failed.increment();
+                        log.warn("Falha no rehash da senha de {}: {}", email, error.getMessage());
+                    }
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writer.shutdown();
+    }
+
+    private void store(String email, String currentHash, String newHash) {
+        if (userRepository.updatePasswordIfUnchanged(email, currentHash, newHash) == 1) {
+            upgraded.increment();
+            userDetailsCache.evict(email);
+            log.debug("Hash da senha de {} atualizado", email);
+        } else {
+            // Senha trocada entre o login e o rehash: mantém a nova
+            skipped.increment();
+        }
+    }
+
+    private static Counter rehashCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("password.rehash")
+                .description("Rehash de senhas desatualizadas após o login")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,121 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fiap.itmoura.tech_challenge.model.data.EntityTags;
+import com.fiap.itmoura.tech_challenge.model.data.TypeUserData;
+import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
+import com.fiap.itmoura.tech_challenge.repository.TypeUsersRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registro em memória dos tipos de usuário, carregado na inicialização.
+ * As escritas desta instância publicam na hora; uma recarga periódica traz as feitas por outras instâncias.
+ * Leituras usam um snapshot imutável sem bloqueio; cada escrita monta um novo snapshot e o troca atomicamente.
+ * Os inativos também são mantidos para distinguir "não encontrado" de "não está ativo".
+ * Escritas usam ReentrantLock em vez de synchronized para não prender virtual threads durante a consulta.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TypeUsersRegistry {
+
+    private final TypeUsersRepository typeUsersRepository;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${tech-challenge.type-users-registry.reload-interval:60s}",
+            fixedDelayString = "${tech-challenge.type-users-registry.reload-interval:60s}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        writeLock.lock();
+        try {
+            List<TypeUserData> types = typeUsersRepository.findAll()
+                    .stream()
+                    .map(TypeUserData::fromEntity)
+                    .toList();
+            Snapshot previous = snapshot;
+            snapshot = Snapshot.of(types);
+            if (previous == null || !previous.byId().equals(snapshot.byId())) {
+                log.info("Registro de tipos de usuário carregado: {} tipos", types.size());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Optional<TypeUserData> findById(UUID id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public List<TypeUserData> findAllActive() {
+        return current().active();
+    }
+
+    /**
+     * ETag da lista de tipos ativos, calculada quando o snapshot é montado.
+     */
+    public String activeEtag() {
+        return current().activeEtag();
+    }
+
+    /**
+     * Publica o estado persistido de um tipo de usuário (criação, atualização ou desativação).
+     */
+    public void put(TypeUsers typeUser) {
+        writeLock.lock();
+        try {
+            Map<UUID, TypeUserData> types = new LinkedHashMap<>(current().byId());
+            types.put(typeUser.getId(), TypeUserData.fromEntity(typeUser));
+            snapshot = Snapshot.of(types.values());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Acesso antes do ApplicationReadyEvent (ex.: carga inicial de dados)
+            writeLock.lock();
+            try {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(Map<UUID, TypeUserData> byId, List<TypeUserData> active, String activeEtag) {
+
+        static Snapshot of(Collection<TypeUserData> types) {
+            Map<UUID, TypeUserData> byId = new LinkedHashMap<>();
+            types.forEach(type -> byId.put(type.id(), type));
+            List<TypeUserData> active = types.stream().filter(TypeUserData::active).toList();
+            return new Snapshot(Collections.unmodifiableMap(byId), active,
+                    EntityTags.ofAll(active.stream().map(TypeUserData::etag).toList()));
+        }
+    }
+}
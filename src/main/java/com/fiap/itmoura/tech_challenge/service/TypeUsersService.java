@@ -1,39 +1,61 @@
 package com.fiap.itmoura.tech_challenge.service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.fiap.itmoura.tech_challenge.config.MetricsConfig;
 import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
 import com.fiap.itmoura.tech_challenge.exception.ConflictRequestException;
+import com.fiap.itmoura.tech_challenge.model.data.TypeUserData;
 import com.fiap.itmoura.tech_challenge.model.dto.TypeUsersDTO;
 import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
 import com.fiap.itmoura.tech_challenge.repository.TypeUsersRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class TypeUsersService {
 
     @Autowired
     private TypeUsersRepository typeUsersRepository;
 
+    @Autowired
+    private TypeUsersRegistry typeUsersRegistry;
+
     public List<TypeUsersDTO> findAll() {
-        return typeUsersRepository.findAllActive()
+        return typeUsersRegistry.findAllActive()
                 .stream()
-                .map(this::convertToDTO)
+                .map(TypeUserData::toDTO)
                 .toList();
     }
 
+    public String findAllEtag() {
+        return typeUsersRegistry.activeEtag();
+    }
+
+    /**
+     * ETag do tipo ativo, lida do registro em memória; vazio se não existir ou estiver inativo.
+     */
+    public Optional<String> findEtagById(UUID id) {
+        return typeUsersRegistry.findById(id)
+                .filter(TypeUserData::active)
+                .map(TypeUserData::etag);
+    }
+
     public TypeUsersDTO findById(UUID id) {
-        TypeUsers typeUser = typeUsersRepository.findById(id)
+        TypeUserData typeUser = typeUsersRegistry.findById(id)
                 .orElseThrow(() -> new BadRequestException("Tipo de usuário não encontrado"));
         
-        if (!typeUser.getIsActive()) {
+        if (!typeUser.active()) {
             throw new BadRequestException("Tipo de usuário não está ativo");
         }
         
-        return convertToDTO(typeUser);
+        return typeUser.toDTO();
     }
 
     public TypeUsersDTO create(TypeUsersDTO typeUsersDTO) {
@@ -48,6 +70,7 @@ public class TypeUsersService {
                 .build();
 
         TypeUsers savedTypeUser = typeUsersRepository.save(typeUser);
+        typeUsersRegistry.put(savedTypeUser);
         return convertToDTO(savedTypeUser);
     }
 
@@ -69,6 +92,7 @@ public class TypeUsersService {
         existingTypeUser.setDescription(typeUsersDTO.getDescription());
 
         TypeUsers updatedTypeUser = typeUsersRepository.save(existingTypeUser);
+        typeUsersRegistry.put(updatedTypeUser);
         return convertToDTO(updatedTypeUser);
     }
 
@@ -77,7 +101,7 @@ public class TypeUsersService {
                 .orElseThrow(() -> new BadRequestException("Tipo de usuário não encontrado"));
 
         typeUser.setIsActive(false);
-        typeUsersRepository.save(typeUser);
+        typeUsersRegistry.put(typeUsersRepository.save(typeUser));
     }
 
     private TypeUsersDTO convertToDTO(TypeUsers typeUser) {
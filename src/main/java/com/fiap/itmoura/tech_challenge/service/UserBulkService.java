@@ -0,0 +1,202 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fiap.itmoura.tech_challenge.config.MetricsConfig;
+import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
+import com.fiap.itmoura.tech_challenge.model.data.EntityTags;
+import com.fiap.itmoura.tech_challenge.model.data.UserLifecycleEvent;
+import com.fiap.itmoura.tech_challenge.model.data.UserStatusData;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkRequestDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkResultDTO;
+import com.fiap.itmoura.tech_challenge.model.enums.UserEventType;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ativação e desativação em massa sem carregar entidades: cada lote roda na própria transação, bloqueia as linhas
+ * que vão mudar lendo só email, nome e tipo, e aplica um único UPDATE. Depois do commit ajusta o cache de login,
+ * o índice de nomes e os contadores com as mesmas linhas, que o bloqueio garante serem exatamente as alteradas.
+ */
+@Slf4j
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class UserBulkService {
+
+    private static final int MAX_IDS = 10_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private UserNameIndex userNameIndex;
+
+    @Autowired
+    private UserCounters userCounters;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${tech-challenge.user-bulk.chunk-size:500}")
+    private int chunkSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public UserBulkResultDTO activate(UserBulkRequestDTO request) {
+        return setActive(request, true);
+    }
+
+    public UserBulkResultDTO deactivate(UserBulkRequestDTO request) {
+        return setActive(request, false);
+    }
+
+    private UserBulkResultDTO setActive(UserBulkRequestDTO request, boolean active) {
+        boolean byIds = request.ids() != null && !request.ids().isEmpty();
+        boolean byFilter = request.typeUserId() != null || request.createdFrom() != null || request.createdTo() != null;
+        if (byIds == byFilter) {
+            throw new BadRequestException("Informe a lista de IDs ou um filtro (tipo e/ou período de criação), não ambos");
+        }
+        return byIds ? setActiveByIds(request.ids(), active) : setActiveByFilter(request, active);
+    }
+
+    private UserBulkResultDTO setActiveByIds(List<UUID> requestedIds, boolean active) {
+        List<UUID> ids = requestedIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.size() > MAX_IDS) {
+            throw new BadRequestException("Informe no máximo " + MAX_IDS + " IDs");
+        }
+        log.info("{} {} usuários por ID", active ? "Ativando" : "Desativando", ids.size());
+
+        long affected = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            affected += applyChunk(active, "WHERE u.id IN :ids AND u.isActive = :current",
+                    query -> query.setParameter("ids", chunk)).size();
+        }
+        log.info("{} usuários {} em massa", affected, active ? "ativados" : "desativados");
+        return new UserBulkResultDTO(affected, ids.size() - affected);
+    }
+
+    private UserBulkResultDTO setActiveByFilter(UserBulkRequestDTO request, boolean active) {
+        if (request.createdFrom() != null && request.createdTo() != null && !request.createdFrom().isBefore(request.createdTo())) {
+            throw new BadRequestException("O início do período de criação deve ser anterior ao fim");
+        }
+        log.info("{} usuários por filtro - tipo: {}, criados de {} até {}", active ? "Ativando" : "Desativando",
+                request.typeUserId(), request.createdFrom(), request.createdTo());
+
+        StringBuilder where = new StringBuilder("WHERE u.isActive = :current");
+        if (request.typeUserId() != null) {
+            where.append(" AND u.typeUser.id = :typeUserId");
+        }
+        if (request.createdFrom() != null) {
+            where.append(" AND u.createdAt >= :createdFrom");
+        }
+        if (request.createdTo() != null) {
+            where.append(" AND u.createdAt < :createdTo");
+        }
+
+        // Percorre por id (keyset) para nunca reler um lote, mesmo que outra escrita devolva linhas ao filtro
+        long affected = 0;
+        UUID after = null;
+        while (true) {
+            UUID cursor = after;
+            String condition = where + (cursor != null ? " AND u.id > :after" : "");
+            List<UserStatusData> changed = applyChunk(active, condition, query -> {
+                if (request.typeUserId() != null) {
+                    query.setParameter("typeUserId", request.typeUserId());
+                }
+                if (request.createdFrom() != null) {
+                    query.setParameter("createdFrom", request.createdFrom());
+                }
+                if (request.createdTo() != null) {
+                    query.setParameter("createdTo", request.createdTo());
+                }
+                if (cursor != null) {
+                    query.setParameter("after", cursor);
+                }
+            });
+            if (changed.isEmpty()) {
+                break;
+            }
+            affected += changed.size();
+            after = changed.get(changed.size() - 1).id();
+        }
+        log.info("{} usuários {} em massa", affected, active ? "ativados" : "desativados");
+        return new UserBulkResultDTO(affected, 0);
+    }
+
+    /**
+     * Bloqueia até um lote de usuários que atendem à condição e ainda não estão na situação pedida, e os altera.
+     * Retorna as linhas alteradas, já com as estruturas em memória atualizadas.
+     */
+    private List<UserStatusData> applyChunk(boolean active, String condition, Consumer<TypedQuery<UserStatusData>> binder) {
+        List<UserStatusData> changed = transactionTemplate.execute(status -> {
+            TypedQuery<UserStatusData> query = entityManager
+                    .createQuery(UserStatusData.SELECT + condition + " ORDER BY u.id", UserStatusData.class)
+                    .setParameter("current", !active)
+                    .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                    .setMaxResults(chunkSize);
+            binder.accept(query);
+            List<UserStatusData> rows = query.getResultList();
+            if (rows.isEmpty()) {
+                return rows;
+            }
+
+            LocalDateTime now = EntityTags.now();
+            int updated = userRepository.updateActiveByIdIn(rows.stream().map(UserStatusData::id).toList(), active, now);
+            if (updated != rows.size()) {
+                // Não deveria acontecer com as linhas bloqueadas; a reconciliação corrige os contadores
+                log.warn("Lote em massa alterou {} de {} usuários bloqueados", updated, rows.size());
+            }
+            UserEventType type = active ? UserEventType.ACTIVATED : UserEventType.DEACTIVATED;
+            rows.forEach(row -> eventPublisher.publishEvent(new UserLifecycleEvent(type, row.id(), now)));
+            return rows;
+        });
+
+        for (UserStatusData row : changed) {
+            userDetailsCache.evict(row.email());
+            if (active) {
+                userNameIndex.put(row.id(), row.name());
+                userCounters.increment(row.typeUserId());
+            } else {
+                userNameIndex.remove(row.id());
+                userCounters.decrement(row.typeUserId());
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,170 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge.model.data.ActiveUserCount;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contadores em memória de usuários ativos, no total e por tipo.
+ * As transições feitas por esta instância ajustam os contadores na hora; uma reconciliação periódica
+ * com o banco corrige desvios (escritas de outras instâncias ou concorrência durante a própria reconciliação).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCounters {
+
+    private final UserRepository userRepository;
+
+    // Ajustes usam a trava de leitura (concorrentes entre si); só a troca do snapshot na reconciliação é exclusiva
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private volatile Counts counts;
+    private volatile Counts pending;
+    private volatile Instant reconciledAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${tech-challenge.user-counters.reconcile-interval:60s}",
+            fixedDelayString = "${tech-challenge.user-counters.reconcile-interval:60s}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            // Ajustes feitos durante a consulta são acumulados à parte e somados ao resultado
+            pending = new Counts();
+            Counts fresh = new Counts();
+            try {
+                List<ActiveUserCount> totals = userRepository.countActiveGroupedByType();
+                totals.forEach(count -> fresh.add(count.typeUserId(), count.total()));
+            } catch (RuntimeException e) {
+                pending = null;
+                throw e;
+            }
+
+            Counts previous;
+            swapLock.writeLock().lock();
+            try {
+                fresh.merge(pending);
+                previous = counts;
+                counts = fresh;
+                pending = null;
+                reconciledAt = Instant.now();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            if (previous != null && previous.total() != fresh.total()) {
+                log.info("Contadores de usuários reconciliados: {} -> {} ativos", previous.total(), fresh.total());
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return counts != null;
+    }
+
+    public Instant reconciledAt() {
+        return reconciledAt;
+    }
+
+    public long countActive() {
+        return counts.total();
+    }
+
+    public long countActiveByType(UUID typeUserId) {
+        return counts.get(typeUserId);
+    }
+
+    public void increment(UUID typeUserId) {
+        adjust(typeUserId, 1);
+    }
+
+    public void decrement(UUID typeUserId) {
+        adjust(typeUserId, -1);
+    }
+
+    public void move(UUID fromTypeUserId, UUID toTypeUserId) {
+        if (Objects.equals(fromTypeUserId, toTypeUserId)) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            apply(fromTypeUserId, -1, false);
+            apply(toTypeUserId, 1, false);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void adjust(UUID typeUserId, long delta) {
+        swapLock.readLock().lock();
+        try {
+            apply(typeUserId, delta, true);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void apply(UUID typeUserId, long delta, boolean countTotal) {
+        Counts current = counts;
+        if (current != null) {
+            current.add(typeUserId, delta, countTotal);
+        }
+        Counts accumulating = pending;
+        if (accumulating != null) {
+            accumulating.add(typeUserId, delta, countTotal);
+        }
+    }
+
+    private static final class Counts {
+
+        private static final UUID NO_TYPE = new UUID(0, 0);
+
+        private final LongAdder total = new LongAdder();
+        private final Map<UUID, LongAdder> byType = new ConcurrentHashMap<>();
+
+        void add(UUID typeUserId, long delta) {
+            add(typeUserId, delta, true);
+        }
+
+        void add(UUID typeUserId, long delta, boolean countTotal) {
+            if (countTotal) {
+                total.add(delta);
+            }
+            byType.computeIfAbsent(typeUserId != null ? typeUserId : NO_TYPE, key -> new LongAdder()).add(delta);
+        }
+
+        long total() {
+            return total.sum();
+        }
+
+        long get(UUID typeUserId) {
+            LongAdder adder = byType.get(typeUserId);
+            return adder != null ? adder.sum() : 0;
+        }
+
+        void merge(Counts other) {
+            total.add(other.total());
+            other.byType.forEach((typeUserId, adder) -> byType.computeIfAbsent(typeUserId, key -> new LongAdder()).add(adder.sum()));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fiap.itmoura.tech_challenge.model.data.UserDetailData;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "userDetails";
+
+    private final AsyncCache<String, UserDetailData> cache;
+    private final Counter invalidations;
+
+    public UserDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${tech-challenge.user-details-cache.max-size:10000}") long maxSize,
+            @Value("${tech-challenge.user-details-cache.ttl:60s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.invalidations = Counter.builder("cache.invalidations")
+                .tag("cache", CACHE_NAME)
+                .description("Entradas removidas por escrita no usuário")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    /**
+     * A consulta ao banco roda na thread chamadora, fora do compute do mapa do Caffeine: carregar dentro
+     * dele prenderia virtual threads à carrier (o bin do ConcurrentHashMap é travado com synchronized).
+     * Chamadas concorrentes para o mesmo email aguardam o mesmo carregamento.
+     */
+    public UserDetailData get(String email, Function<String, UserDetailData> loader) {
+        CompletableFuture<UserDetailData> loading = new CompletableFuture<>();
+        CompletableFuture<UserDetailData> future = cache.get(email, (key, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(loader.apply(email));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Dentro de uma transação, remove de novo depois do commit: um login concorrente que leu a linha antiga
+     * antes do commit regravaria a entrada desatualizada por até um TTL.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        log.debug("Removendo usuário {} do cache de autenticação", email);
+        cache.synchronous().invalidate(email);
+        invalidations.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.synchronous().invalidate(email);
+                }
+            });
+        }
+    }
+}
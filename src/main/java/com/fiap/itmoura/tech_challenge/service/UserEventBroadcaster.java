@@ -0,0 +1,227 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fiap.itmoura.tech_challenge.model.data.UserLifecycleEvent;
+import com.fiap.itmoura.tech_challenge.model.dto.UserEventDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Distribui os eventos de ciclo de vida de usuários aos assinantes SSE, somente depois do commit.
+ * Cada assinante tem uma fila limitada e uma virtual thread própria de envio: quem publica nunca espera
+ * pelo cliente, e o assinante cuja fila enche é desconectado (ele retoma depois pelo Last-Event-ID).
+ * Os últimos eventos ficam num anel em memória para a retomada; se o cliente perdeu mais do que o anel guarda,
+ * recebe um evento "resync" e deve se ressincronizar por /api/users/changes.
+ */
+@Slf4j
+@Component
+public class UserEventBroadcaster {
+
+    public static final String RESYNC_EVENT = "resync";
+    private static final String RESYNC_MESSAGE = "Eventos perdidos; ressincronize por /api/users/changes";
+    // Acorda a thread de envio de um assinante encerrado sem esperar o próximo heartbeat
+    private static final UserEventDTO WAKE_UP = new UserEventDTO(-1, null, null, null);
+
+    private final int bufferSize;
+    private final int replaySize;
+    private final Duration heartbeatInterval;
+    private final Duration timeout;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<UserEventDTO> replay;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter published;
+    private final Counter dropped;
+
+    // Protegido por lock. Começa no relógio para que ids de uma execução anterior não caiam dentro do anel atual
+    private long lastId = System.currentTimeMillis() * 1_000;
+
+    public UserEventBroadcaster(
+            MeterRegistry meterRegistry,
+            @Value("${tech-challenge.user-events.buffer-size:256}") int bufferSize,
+            @Value("${tech-challenge.user-events.replay-size:1000}") int replaySize,
+            @Value("${tech-challenge.user-events.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${tech-challenge.user-events.timeout:30m}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.heartbeatInterval = heartbeatInterval;
+        this.timeout = timeout;
+        this.replay = new ArrayDeque<>(replaySize);
+
+        this.published = Counter.builder("user.events.published")
+                .description("Eventos de usuário publicados após o commit")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("user.events.dropped")
+                .description("Assinantes desconectados por não acompanharem os eventos")
+                .register(meterRegistry);
+        Gauge.builder("user.events.subscribers", subscribers, Set::size)
+                .description("Assinantes conectados ao fluxo de eventos de usuário")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sem transação ativa (escritas do {@code UserService} commitam no próprio repositório) o evento é tratado na hora.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(UserLifecycleEvent event) {
+        lock.lock();
+        try {
+            UserEventDTO dto = new UserEventDTO(++lastId, event.type(), event.userId(), event.occurredAt());
+            if (replay.size() == replaySize) {
+                replay.removeFirst();
+            }
+            replay.addLast(dto);
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(dto)) {
+                    dropped.increment();
+                    log.warn("Assinante de eventos de usuário desconectado: fila de {} eventos cheia", bufferSize);
+                    subscriber.close();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        published.increment();
+    }
+
+    /**
+     * Abre um fluxo SSE; com {@code lastEventId}, reenvia antes os eventos do anel posteriores a ele.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(timeout.toMillis()), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+
+        lock.lock();
+        try {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                subscriber.resync = !replayAfter(lastEventId, subscriber.queue);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        senders.execute(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(Subscriber::close);
+        senders.shutdownNow();
+    }
+
+    // Chamado com lock: falso quando não dá para garantir a continuidade a partir do id informado
+    private boolean replayAfter(String lastEventId, BlockingQueue<UserEventDTO> queue) {
+        long after;
+        try {
+            after = Long.parseLong(lastEventId.strip());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (after > lastId) {
+            return false;
+        }
+        if (after == lastId) {
+            return true;
+        }
+        if (replay.isEmpty() || after < replay.peekFirst().id() - 1) {
+            return false;
+        }
+
+        List<UserEventDTO> missed = replay.stream()
+                .filter(event -> event.id() > after)
+                .toList();
+        if (missed.size() > bufferSize) {
+            return false;
+        }
+        queue.addAll(missed);
+        return true;
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<UserEventDTO> queue = new ArrayBlockingQueue<>(bufferSize);
+        private volatile boolean closed;
+        private boolean resync;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (resync) {
+                    emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(RESYNC_MESSAGE));
+                }
+                while (!closed) {
+                    UserEventDTO event = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (closed) {
+                        break;
+                    }
+                    if (event == null) {
+                        // Mantém a conexão viva em proxies e detecta clientes que já foram embora
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(event.id()))
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                }
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado ou emitter já encerrado
+                log.debug("Assinante de eventos de usuário encerrado: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } finally {
+                close();
+            }
+        }
+
+        // Não toca no emitter: um envio lento pode estar em andamento; a thread de envio encerra ao perceber o flag
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+            queue.offer(WAKE_UP);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fiap.itmoura.tech_challenge.config.MetricsConfig;
+import com.fiap.itmoura.tech_challenge.config.security.BoundedPasswordEncoder;
+import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
+import com.fiap.itmoura.tech_challenge.exception.UniqueConstraintTranslator;
+import com.fiap.itmoura.tech_challenge.model.data.TypeUserData;
+import com.fiap.itmoura.tech_challenge.model.dto.AddressDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.OnCreate;
+import com.fiap.itmoura.tech_challenge.model.dto.UserDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserImportErrorDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserImportResultDTO;
+import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
+import com.fiap.itmoura.tech_challenge.model.entity.Users;
+import com.fiap.itmoura.tech_challenge.repository.TypeUsersRepository;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class UserImportService {
+
+    private static final DateTimeFormatter BIRTH_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String REJECTED_BY_DATABASE_MESSAGE = "Registro rejeitado pelo banco de dados";
+    private static final List<String> ADDRESS_COLUMNS = List.of(
+            "street", "number", "complement", "neighborhood", "city", "state", "zipCode");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TypeUsersRepository typeUsersRepository;
+
+    @Autowired
+    private TypeUsersRegistry typeUsersRegistry;
+
+    @Autowired
+    private BoundedPasswordEncoder encoder;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserNameIndex userNameIndex;
+
+    @Autowired
+    private UserCounters userCounters;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${tech-challenge.user-import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${tech-challenge.user-import.hash-parallelism:0}")
+    private int hashParallelism;
+
+    @Value("${tech-challenge.user-import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private TransactionTemplate transactionTemplate;
+    private Semaphore hashPermits;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // Limita quantos hashes da importação ocupam o pool compartilhado, deixando vagas para cadastros e logins
+        int permits = hashParallelism > 0 ? hashParallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        hashPermits = new Semaphore(permits);
+    }
+
+    public UserImportResultDTO importCsv(InputStream input) {
+        log.info("Iniciando importação de usuários via CSV");
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport(maxReportedErrors);
+        // Só o lote atual, para a memória não crescer com o arquivo: repetições entre lotes esbarram no que já foi gravado
+        Set<String> chunkEmails = new HashSet<>();
+        Set<String> chunkPhones = new HashSet<>();
+        Map<UUID, TypeUsers> typeReferences = new HashMap<>();
+        List<PendingUser> chunk = new ArrayList<>(batchSize);
+
+        try (CsvReader csv = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            CsvReader.Row row;
+            while ((row = csv.next()) != null) {
+                report.totalRows++;
+                PendingUser pending = parse(row, typeReferences, report);
+                if (pending == null) {
+                    continue;
+                }
+
+                String email = pending.dto().email();
+                String phone = pending.dto().phone();
+                if (!chunkEmails.add(email)) {
+                    report.reject(row.line(), email, "Email repetido no arquivo");
+                    continue;
+                }
+                if (!chunkPhones.add(phone)) {
+                    chunkEmails.remove(email);
+                    report.reject(row.line(), email, "Telefone repetido no arquivo");
+                    continue;
+                }
+
+                chunk.add(pending);
+                if (chunk.size() >= batchSize) {
+                    persistChunk(chunk, report);
+                    chunk.clear();
+                    chunkEmails.clear();
+                    chunkPhones.clear();
+                }
+            }
+            persistChunk(chunk, report);
+        } catch (IOException e) {
+            throw new BadRequestException("Falha ao ler o arquivo CSV", e);
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        double rowsPerSecond = elapsedMillis > 0 ? report.imported * 1000d / elapsedMillis : report.imported;
+        log.info("Importação concluída: {} linhas, {} criados, {} rejeitados em {} ms",
+                report.totalRows, report.imported, report.failed, elapsedMillis);
+        return new UserImportResultDTO(report.totalRows, report.imported, report.failed, elapsedMillis,
+                rowsPerSecond, report.errors, report.truncated);
+    }
+
+    private PendingUser parse(CsvReader.Row row, Map<UUID, TypeUsers> typeReferences, ImportReport report) {
+        List<String> errors = new ArrayList<>();
+
+        UUID typeUserId = null;
+        String rawTypeUserId = row.get("typeUserId");
+        if (rawTypeUserId != null) {
+            try {
+                typeUserId = UUID.fromString(rawTypeUserId);
+            } catch (IllegalArgumentException e) {
+                errors.add("typeUserId: valor inválido");
+            }
+        }
+
+        LocalDate birthDate = null;
+        String rawBirthDate = row.get("birthDate");
+        if (rawBirthDate != null) {
+            try {
+                birthDate = LocalDate.parse(rawBirthDate, BIRTH_DATE_FORMAT);
+            } catch (DateTimeParseException e) {
+                errors.add("birthDate: formato esperado dd/MM/yyyy");
+            }
+        }
+
+        Integer number = null;
+        String rawNumber = row.get("number");
+        if (rawNumber != null) {
+            try {
+                number = Integer.valueOf(rawNumber);
+            } catch (NumberFormatException e) {
+                errors.add("number: valor inválido");
+            }
+        }
+
+        AddressDTO address = null;
+        if (ADDRESS_COLUMNS.stream().anyMatch(column -> row.get(column) != null)) {
+            address = new AddressDTO(null, row.get("street"), row.get("neighborhood"), row.get("complement"),
+                    number, row.get("city"), row.get("state"), row.get("zipCode"));
+        }
+
+        UserDTO dto = new UserDTO(null, row.get("name"), row.get("email"), row.get("password"), null, address,
+                birthDate, row.get("phone"), typeUserId, null, null);
+
+        Set<ConstraintViolation<UserDTO>> violations = validator.validate(dto, OnCreate.class, Default.class);
+        violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .forEach(violation -> errors.add(violation.getPropertyPath() + ": " + violation.getMessage()));
+
+        TypeUsers typeUser = null;
+        if (typeUserId != null) {
+            Optional<TypeUserData> found = typeUsersRegistry.findById(typeUserId);
+            if (found.isEmpty()) {
+                errors.add("Tipo de usuário não encontrado");
+            } else if (!found.get().active()) {
+                errors.add("Tipo de usuário não está ativo");
+            } else {
+                typeUser = typeReferences.computeIfAbsent(typeUserId, typeUsersRepository::getReferenceById);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            report.reject(row.line(), dto.email(), errors);
+            return null;
+        }
+        return new PendingUser(row.line(), dto, typeUser);
+    }
+
+    private void persistChunk(List<PendingUser> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Uma consulta por lote para detectar emails e telefones já cadastrados
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(
+                chunk.stream().map(pending -> pending.dto().email()).toList()));
+        Set<String> existingPhones = new HashSet<>(userRepository.findExistingPhones(
+                chunk.stream().map(pending -> pending.dto().phone()).toList()));
+
+        List<PendingUser> accepted = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            if (existingEmails.contains(pending.dto().email())) {
+                report.reject(pending.line(), pending.dto().email(), "Já existe um usuário com este email");
+            } else if (existingPhones.contains(pending.dto().phone())) {
+                report.reject(pending.line(), pending.dto().email(), "Já existe um usuário com este telefone");
+            } else {
+                accepted.add(pending);
+            }
+        }
+
+        List<CompletableFuture<String>> hashes = new ArrayList<>(accepted.size());
+        for (PendingUser pending : accepted) {
+            hashPermits.acquireUninterruptibly();
+            hashes.add(encoder.encodeWhenAvailable(pending.dto().password())
+                    .whenComplete((hash, error) -> hashPermits.release()));
+        }
+        List<Users> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            users.add(toEntity(accepted.get(i), hashes.get(i).join()));
+        }
+
+        try {
+            saveInTransaction(users);
+            report.imported += users.size();
+        } catch (DataIntegrityViolationException e) {
+            // Conflito concorrente dentro do lote: regrava linha a linha para isolar os registros inválidos
+            log.warn("Lote de importação rejeitado pelo banco, gravando linha a linha: {}", e.getMostSpecificCause().getMessage());
+            for (int i = 0; i < accepted.size(); i++) {
+                PendingUser pending = accepted.get(i);
+                Users user = toEntity(pending, users.get(i).getPassword());
+                try {
+                    saveInTransaction(List.of(user));
+                    report.imported++;
+                } catch (DataIntegrityViolationException rowException) {
+                    report.reject(pending.line(), pending.dto().email(), UniqueConstraintTranslator.conflictMessage(rowException)
+                            .orElse(REJECTED_BY_DATABASE_MESSAGE));
+                }
+            }
+        }
+        log.debug("Lote de importação gravado: {} usuários", users.size());
+    }
+
+    private void saveInTransaction(List<Users> users) {
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.saveAll(users);
+            userRepository.flush();
+            entityManager.clear();
+        });
+        users.forEach(user -> {
+            userNameIndex.put(user.getId(), user.getName());
+            userCounters.increment(user.getTypeUser() != null ? user.getTypeUser().getId() : null);
+        });
+    }
+
+    private Users toEntity(PendingUser pending, String encodedPassword) {
+        UserDTO dto = pending.dto();
+        return Users.builder()
+                .name(dto.name())
+                .email(dto.email())
+                .password(encodedPassword)
+                .phone(dto.phone())
+                .birthDate(dto.birthDate())
+                .typeUser(pending.typeUser())
+                .address(dto.address() != null ? dto.address().toEntity() : null)
+                .isActive(true)
+                .build();
+    }
+
+    private record PendingUser(long line, UserDTO dto, TypeUsers typeUser) {
+    }
+
+    private static class ImportReport {
+
+        private final int maxErrors;
+        private final List<UserImportErrorDTO> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long failed;
+        private boolean truncated;
+
+        ImportReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void reject(long line, String email, String error) {
+            reject(line, email, List.of(error));
+        }
+
+        void reject(long line, String email, List<String> lineErrors) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new UserImportErrorDTO(line, email, lineErrors));
+            } else {
+                truncated = true;
+            }
+        }
+    }
+}
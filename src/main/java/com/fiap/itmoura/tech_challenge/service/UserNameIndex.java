@@ -0,0 +1,287 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fiap.itmoura.tech_challenge.model.data.UserNameData;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice invertido de trigramas sobre os nomes dos usuários ativos, usado na busca por nome.
+ * Os nomes são normalizados (minúsculas e sem acentos) e cada entrada recebe um ordinal crescente,
+ * o que mantém as listas de ordinais de cada trigrama ordenadas sem reordenação. Remoções apenas
+ * marcam o ordinal; o índice é compactado quando os removidos superam os ativos.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNameIndex {
+
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::rank)
+            .thenComparingInt(match -> match.name().length())
+            .thenComparing(Match::name)
+            .thenComparingInt(Match::ordinal);
+
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int nextOrdinal;
+    private int removed;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        log.info("Construindo índice de busca por nome");
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            clear();
+            try (Stream<UserNameData> users = userRepository.streamActiveNames()) {
+                users.forEach(user -> add(user.id(), normalize(user.name())));
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de busca por nome construído: {} usuários, {} trigramas em {} ms",
+                ordinals.size(), postings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inclui ou atualiza o nome de um usuário ativo.
+     */
+    public void put(UUID id, String name) {
+        String normalized = normalize(name);
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal != null) {
+                if (names[ordinal].equals(normalized)) {
+                    return;
+                }
+                release(id, ordinal);
+            }
+            add(id, normalized);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal != null) {
+                release(id, ordinal);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca os usuários cujo nome contém o texto informado, retornando os {@code limit} melhores ids
+     * (nome começando pelo texto, depois início de palavra, depois nomes mais curtos) e o total de ocorrências.
+     */
+    public SearchResult search(String query, int limit) {
+        String normalized = normalize(query);
+        long[] grams = trigrams(normalized);
+        if (grams.length == 0) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return new SearchResult(List.of(), 0);
+                }
+            }
+            // Percorre a menor lista e confere as demais por busca binária
+            Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+
+            PriorityQueue<Match> top = new PriorityQueue<>(Math.clamp(limit, 1, INITIAL_CAPACITY), RANKING.reversed());
+            long total = 0;
+            Postings smallest = lists[0];
+            for (int i = 0; i < smallest.size; i++) {
+                int ordinal = smallest.values[i];
+                String name = names[ordinal];
+                if (name == null || !containsAll(lists, ordinal)) {
+                    continue;
+                }
+                // Os trigramas garantem apenas candidatos; a posição confirma a substring
+                int position = name.indexOf(normalized);
+                if (position < 0) {
+                    continue;
+                }
+
+                total++;
+                if (limit <= 0) {
+                    continue;
+                }
+                int rank = position == 0 ? 0 : name.charAt(position - 1) == ' ' ? 1 : 2;
+                Match match = new Match(ordinal, rank, name);
+                if (top.size() < limit) {
+                    top.add(match);
+                } else if (RANKING.compare(match, top.peek()) < 0) {
+                    top.poll();
+                    top.add(match);
+                }
+            }
+
+            List<Match> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING);
+            return new SearchResult(ranked.stream().map(match -> ids[match.ordinal()]).toList(), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("")
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static long[] trigrams(String normalized) {
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            return new long[0];
+        }
+        long[] grams = new long[normalized.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) normalized.charAt(i) << 32)
+                    | ((long) normalized.charAt(i + 1) << 16)
+                    | normalized.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static boolean containsAll(Postings[] lists, int ordinal) {
+        for (int i = 1; i < lists.length; i++) {
+            if (Arrays.binarySearch(lists[i].values, 0, lists[i].size, ordinal) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(UUID id, String normalized) {
+        if (nextOrdinal == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            names = Arrays.copyOf(names, names.length * 2);
+        }
+        int ordinal = nextOrdinal++;
+        ids[ordinal] = id;
+        names[ordinal] = normalized;
+        ordinals.put(id, ordinal);
+        for (long gram : trigrams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(ordinal);
+        }
+    }
+
+    private void release(UUID id, int ordinal) {
+        ordinals.remove(id);
+        ids[ordinal] = null;
+        names[ordinal] = null;
+        removed++;
+    }
+
+    private void compactIfNeeded() {
+        if (removed < INITIAL_CAPACITY || removed < ordinals.size()) {
+            return;
+        }
+        log.debug("Compactando índice de busca por nome: {} ativos, {} removidos", ordinals.size(), removed);
+        UUID[] liveIds = ids;
+        String[] liveNames = names;
+        int count = nextOrdinal;
+        clear();
+        for (int i = 0; i < count; i++) {
+            if (liveIds[i] != null) {
+                add(liveIds[i], liveNames[i]);
+            }
+        }
+    }
+
+    private void clear() {
+        ordinals.clear();
+        postings.clear();
+        ids = new UUID[INITIAL_CAPACITY];
+        names = new String[INITIAL_CAPACITY];
+        nextOrdinal = 0;
+        removed = 0;
+    }
+
+    public record SearchResult(List<UUID> ids, long total) {
+    }
+
+    private record Match(int ordinal, int rank, String name) {
+    }
+
+    private static final class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(int ordinal) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+    }
+}
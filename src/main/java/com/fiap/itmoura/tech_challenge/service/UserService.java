@@ -1,108 +1,339 @@
 package com.fiap.itmoura.tech_challenge.service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fiap.itmoura.tech_challenge.config.MetricsConfig;
 import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
-import com.fiap.itmoura.tech_challenge.exception.ConflictRequestException;
+import com.fiap.itmoura.tech_challenge.exception.UniqueConstraintTranslator;
+import com.fiap.itmoura.tech_challenge.model.data.KeysetCursor;
+import com.fiap.itmoura.tech_challenge.model.data.TypeUserData;
+import com.fiap.itmoura.tech_challenge.model.data.UserLifecycleEvent;
+import com.fiap.itmoura.tech_challenge.model.data.UserSummaryData;
+import com.fiap.itmoura.tech_challenge.model.data.UserVersionData;
+import com.fiap.itmoura.tech_challenge.model.dto.ChangeFeedDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.CursorPageDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBatchDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserChangeDTO;
 import com.fiap.itmoura.tech_challenge.model.dto.UserDTO;
 import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
 import com.fiap.itmoura.tech_challenge.model.entity.Users;
+import com.fiap.itmoura.tech_challenge.model.enums.UserEventType;
 import com.fiap.itmoura.tech_challenge.repository.TypeUsersRepository;
 import com.fiap.itmoura.tech_challenge.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class UserService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+    private static final int MAX_CHANGES_PAGE_SIZE = 500;
+    private static final int MAX_BATCH_IDS = 500;
+    // Mesmo tamanho de default_batch_fetch_size; com in_clause_parameter_padding o IN tem poucos formatos distintos
+    private static final int BATCH_QUERY_CHUNK = 100;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private TypeUsersRepository typeUsersRepository;
 
+    @Autowired
+    private TypeUsersRegistry typeUsersRegistry;
+
     @Autowired
     private PasswordEncoder encoder;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private UserNameIndex userNameIndex;
+
+    @Autowired
+    private UserCounters userCounters;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // lastUpdatedAt é gravado antes do commit: alterações mais recentes que isso ainda podem ter vizinhas não commitadas
+    @Value("${tech-challenge.change-feed.settle-delay:2s}")
+    private Duration changeFeedSettleDelay;
+
+    @Transactional(readOnly = true)
     public List<UserDTO> findAll() {
         log.info("Buscando todos os usuários ativos");
-        return userRepository.findAll()
+        return userRepository.findActiveSummaries()
                 .stream()
-                .filter(user -> user.getIsActive())
-                .map(UserDTO::fromEntity)
+                .map(UserDTO::fromSummary)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public Page<UserDTO> findAllPaginated(Pageable pageable) {
         log.info("Buscando usuários paginados - página: {}, tamanho: {}", pageable.getPageNumber(), pageable.getPageSize());
-        return userRepository.findByIsActiveTrue(pageable)
-                .map(UserDTO::fromEntity);
+        return userRepository.findActiveSummaries(pageable)
+                .map(UserDTO::fromSummary);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UserDTO> consumer) {
+        log.info("Transmitindo todos os usuários ativos");
+        try (Stream<Users> users = userRepository.streamAllActive()) {
+            forEachDetached(users, consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void streamByTypeUserId(UUID typeUserId, Consumer<UserDTO> consumer) {
+        log.info("Transmitindo usuários por tipo de usuário: {}", typeUserId);
+        try (Stream<Users> users = userRepository.streamActiveByTypeUserId(typeUserId)) {
+            forEachDetached(users, consumer);
+        }
+    }
+
+    // Limpa o contexto de persistência a cada lote para manter o heap estável durante o cursor
+    private void forEachDetached(Stream<Users> users, Consumer<UserDTO> consumer) {
+        int[] processed = {0};
+        users.forEach(user -> {
+            consumer.accept(UserDTO.fromEntity(user));
+            if (++processed[0] % UserRepository.STREAM_FETCH_SIZE == 0) {
+                entityManager.clear();
+            }
+        });
+        entityManager.clear();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<UserDTO> findAllByCursor(String cursor, int size) {
+        log.info("Buscando usuários por cursor - tamanho: {}", size);
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Tamanho da página deve estar entre 1 e " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        // Busca um item a mais para saber se existe próxima página sem executar COUNT
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Users> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findActiveFirstPage(limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            users = userRepository.findActivePageAfter(position.timestamp(), position.id(), limit);
+        }
+
+        boolean hasNext = users.size() > size;
+        List<Users> page = hasNext ? users.subList(0, size) : users;
+        String nextCursor = null;
+        if (hasNext) {
+            Users last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<UserDTO> content = page.stream()
+                .map(UserDTO::fromEntity)
+                .toList();
+        return new CursorPageDTO<>(content, nextCursor, content.size(), hasNext);
+    }
+
+    /**
+     * Usuários alterados depois da marca d'água, ativos ou não, em ordem de (lastUpdatedAt, id).
+     * Só entram alterações mais antigas que o atraso de acomodação, para que uma transação lenta que commite depois
+     * com lastUpdatedAt anterior ao de uma já entregue não fique para trás da marca d'água.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDTO<UserChangeDTO> findChangesSince(String watermark, int size) {
+        log.info("Buscando alterações de usuários - tamanho: {}", size);
+        if (size < 1 || size > MAX_CHANGES_PAGE_SIZE) {
+            throw new BadRequestException("Tamanho da página deve estar entre 1 e " + MAX_CHANGES_PAGE_SIZE);
+        }
+
+        LocalDateTime settledBefore = LocalDateTime.now().minus(changeFeedSettleDelay);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<UserSummaryData> changes;
+        if (watermark == null || watermark.isBlank()) {
+            changes = userRepository.findChangesFromStart(settledBefore, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(watermark);
+            changes = userRepository.findChangesAfter(position.timestamp(), position.id(), settledBefore, limit);
+        }
+
+        boolean hasMore = changes.size() > size;
+        List<UserSummaryData> page = hasMore ? changes.subList(0, size) : changes;
+        String nextWatermark = watermark;
+        if (!page.isEmpty()) {
+            UserSummaryData last = page.get(page.size() - 1);
+            nextWatermark = new KeysetCursor(last.lastUpdatedAt(), last.id()).encode();
+        }
+
+        List<UserChangeDTO> content = page.stream()
+                .map(UserChangeDTO::fromSummary)
+                .toList();
+        return new ChangeFeedDTO<>(content, nextWatermark, content.size(), hasMore);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<UserDTO> searchByName(String name, int page, int size) {
+        log.info("Buscando usuários por nome - página: {}, tamanho: {}", page, size);
+        if (name == null || UserNameIndex.normalize(name).length() < UserNameIndex.MIN_QUERY_LENGTH) {
+            throw new BadRequestException("Informe ao menos " + UserNameIndex.MIN_QUERY_LENGTH + " caracteres para a busca");
+        }
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new BadRequestException("Página deve ser positiva e o tamanho entre 1 e " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if ((long) (page + 1) * size > MAX_SEARCH_RESULTS) {
+            throw new BadRequestException("A busca retorna no máximo " + MAX_SEARCH_RESULTS + " resultados");
+        }
+
+        Pageable pageable = PageRequest.of(page, size);
+        if (!userNameIndex.isReady()) {
+            // Índice ainda em construção na inicialização: recorre à consulta LIKE no banco
+            log.warn("Índice de busca por nome indisponível, consultando o banco");
+            List<UserDTO> matches = userRepository.findByNameContainingIgnoreCaseAndIsActiveTrue(name.strip())
+                    .stream()
+                    .map(UserDTO::fromEntity)
+                    .toList();
+            int from = Math.min(page * size, matches.size());
+            int to = Math.min(from + size, matches.size());
+            return new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+        }
+
+        UserNameIndex.SearchResult result = userNameIndex.search(name, (page + 1) * size);
+        List<UUID> pageIds = result.ids().subList(Math.min(page * size, result.ids().size()), result.ids().size());
+
+        // Uma única consulta para os ids da página, reordenada conforme o ranking do índice
+        Map<UUID, Users> users = userRepository.findAllById(pageIds)
+                .stream()
+                .collect(Collectors.toMap(Users::getId, Function.identity()));
+        List<UserDTO> content = pageIds.stream()
+                .map(users::get)
+                .filter(user -> user != null && user.getIsActive())
+                .map(UserDTO::fromEntity)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    /**
+     * ETag do usuário ativo, obtida só com id, lastUpdatedAt e isActive; vazio se não existir ou estiver inativo.
+     */
+    public Optional<String> findEtagById(UUID id) {
+        return userRepository.findVersionById(id).flatMap(UserService::etagOf);
+    }
+
+    public Optional<String> findEtagByEmail(String email) {
+        return userRepository.findVersionByEmail(email).flatMap(UserService::etagOf);
     }
 
     public UserDTO findById(UUID id) {
         log.info("Buscando usuário por ID: {}", id);
-        Users user = userRepository.findById(id)
+        UserSummaryData user = userRepository.findSummaryById(id)
                 .orElseThrow(() -> new BadRequestException("Usuário não encontrado"));
         
-        if (!user.getIsActive()) {
+        if (!user.isActive()) {
             throw new BadRequestException("Usuário não está ativo");
         }
         
-        return UserDTO.fromEntity(user);
+        return UserDTO.fromSummary(user);
+    }
+
+    /**
+     * Busca vários usuários ativos por ID com consultas IN em blocos, em vez de uma consulta por ID.
+     * IDs repetidos são considerados uma vez; os não encontrados ou inativos voltam em {@code missing}.
+     */
+    @Transactional(readOnly = true)
+    public UserBatchDTO findAllByIds(List<UUID> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_IDS) {
+            throw new BadRequestException("Informe entre 1 e " + MAX_BATCH_IDS + " IDs");
+        }
+        List<UUID> requested = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        log.info("Buscando {} usuários por ID", requested.size());
+
+        Map<UUID, UserSummaryData> summaries = new HashMap<>();
+        for (int from = 0; from < requested.size(); from += BATCH_QUERY_CHUNK) {
+            List<UUID> chunk = requested.subList(from, Math.min(from + BATCH_QUERY_CHUNK, requested.size()));
+            userRepository.findActiveSummariesByIdIn(chunk)
+                    .forEach(summary -> summaries.put(summary.id(), summary));
+        }
+
+        Map<UUID, UserDTO> found = new LinkedHashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : requested) {
+            UserSummaryData summary = summaries.get(id);
+            if (summary != null) {
+                found.put(id, UserDTO.fromSummary(summary));
+            } else {
+                missing.add(id);
+            }
+        }
+        return new UserBatchDTO(found, missing);
     }
 
     public UserDTO findByEmail(String email) {
         log.info("Buscando usuário por email: {}", email);
-        Users user = userRepository.findByEmail(email)
+        UserSummaryData user = userRepository.findSummaryByEmail(email)
                 .orElseThrow(() -> new BadRequestException("Usuário não encontrado"));
         
-        if (!user.getIsActive()) {
+        if (!user.isActive()) {
             throw new BadRequestException("Usuário não está ativo");
         }
         
-        return UserDTO.fromEntity(user);
+        return UserDTO.fromSummary(user);
     }
 
+    @Transactional(readOnly = true)
     public List<UserDTO> findByTypeUserId(UUID typeUserId) {
         log.info("Buscando usuários por tipo de usuário: {}", typeUserId);
-        return userRepository.findByTypeUserIdAndIsActiveTrue(typeUserId)
+        return userRepository.findActiveSummariesByTypeUserId(typeUserId)
                 .stream()
-                .map(UserDTO::fromEntity)
+                .map(UserDTO::fromSummary)
                 .toList();
     }
 
     public UserDTO create(UserDTO userDTO) {
         log.info("Criando novo usuário com email: {}", userDTO.email());
-        
-        // Validações
-        if (userRepository.existsByEmail(userDTO.email())) {
-            throw new ConflictRequestException("Já existe um usuário com este email");
-        }
-
-        if (userRepository.existsByPhone(userDTO.phone())) {
-            throw new ConflictRequestException("Já existe um usuário com este telefone");
-        }
 
         // Busca o tipo de usuário se fornecido
         TypeUsers typeUser = null;
         if (userDTO.typeUserId() != null) {
-            typeUser = typeUsersRepository.findById(userDTO.typeUserId())
-                    .orElseThrow(() -> new BadRequestException("Tipo de usuário não encontrado"));
-            
-            if (!typeUser.getIsActive()) {
-                throw new BadRequestException("Tipo de usuário não está ativo");
-            }
+            typeUser = activeTypeUserReference(userDTO.typeUserId());
         }
 
         Users user = Users.builder()
@@ -116,11 +347,15 @@ public class UserService {
                 .isActive(true)
                 .build();
 
-        Users savedUser = userRepository.save(user);
+        Users savedUser = saveUnique(user);
+        userNameIndex.put(savedUser.getId(), savedUser.getName());
+        userCounters.increment(typeUserIdOf(savedUser));
+        publish(UserEventType.CREATED, savedUser);
         log.info("Usuário criado com sucesso: {}", savedUser.getEmail());
         return UserDTO.fromEntity(savedUser);
     }
 
+    @Transactional
     public UserDTO update(UUID id, UserDTO userDTO) {
         log.info("Atualizando usuário com ID: {}", id);
         Users user = userRepository.findById(id)
@@ -130,14 +365,8 @@ public class UserService {
             throw new BadRequestException("Não é possível atualizar um usuário inativo");
         }
 
-        // Validações de unicidade
-        if (!user.getEmail().equals(userDTO.email()) && userRepository.existsByEmail(userDTO.email())) {
-            throw new ConflictRequestException("Já existe um usuário com este email");
-        }
-
-        if (!user.getPhone().equals(userDTO.phone()) && userRepository.existsByPhone(userDTO.phone())) {
-            throw new ConflictRequestException("Já existe um usuário com este telefone");
-        }
+        String previousEmail = user.getEmail();
+        UUID previousTypeUserId = typeUserIdOf(user);
 
         // Atualiza campos
         if (Objects.nonNull(userDTO.name()) && !userDTO.name().equals(user.getName())) {
@@ -153,14 +382,7 @@ public class UserService {
         }
 
         if (Objects.nonNull(userDTO.typeUserId())) {
-            TypeUsers typeUser = typeUsersRepository.findById(userDTO.typeUserId())
-                    .orElseThrow(() -> new BadRequestException("Tipo de usuário não encontrado"));
-            
-            if (!typeUser.getIsActive()) {
-                throw new BadRequestException("Tipo de usuário não está ativo");
-            }
-            
-            user.setTypeUser(typeUser);
+            user.setTypeUser(activeTypeUserReference(userDTO.typeUserId()));
         }
 
         if (Objects.nonNull(userDTO.address())) {
@@ -175,31 +397,53 @@ public class UserService {
             user.setPhone(userDTO.phone());
         }
 
-        Users updatedUser = userRepository.save(user);
+        Users updatedUser = saveUnique(user);
+        userDetailsCache.evict(previousEmail);
+        userDetailsCache.evict(updatedUser.getEmail());
+        userNameIndex.put(updatedUser.getId(), updatedUser.getName());
+        userCounters.move(previousTypeUserId, typeUserIdOf(updatedUser));
+        publish(UserEventType.UPDATED, updatedUser);
         log.info("Usuário atualizado com sucesso: {}", updatedUser.getEmail());
         return UserDTO.fromEntity(updatedUser);
     }
 
+    @Transactional
     public void delete(UUID id) {
         log.info("Desativando usuário com ID: {}", id);
         Users user = userRepository.findById(id)
                 .orElseThrow(() -> new BadRequestException("Usuário não encontrado"));
 
+        boolean wasActive = Boolean.TRUE.equals(user.getIsActive());
         user.setIsActive(false);
         userRepository.save(user);
+        userDetailsCache.evict(user.getEmail());
+        userNameIndex.remove(user.getId());
+        if (wasActive) {
+            userCounters.decrement(typeUserIdOf(user));
+            publish(UserEventType.DEACTIVATED, user);
+        }
         log.info("Usuário desativado com sucesso: {}", user.getEmail());
     }
 
+    @Transactional
     public void activate(UUID id) {
         log.info("Ativando usuário com ID: {}", id);
         Users user = userRepository.findById(id)
                 .orElseThrow(() -> new BadRequestException("Usuário não encontrado"));
 
+        boolean wasActive = Boolean.TRUE.equals(user.getIsActive());
         user.setIsActive(true);
         userRepository.save(user);
+        userDetailsCache.evict(user.getEmail());
+        userNameIndex.put(user.getId(), user.getName());
+        if (!wasActive) {
+            userCounters.increment(typeUserIdOf(user));
+            publish(UserEventType.ACTIVATED, user);
+        }
         log.info("Usuário ativado com sucesso: {}", user.getEmail());
     }
 
+    @Transactional
     public UserDTO changePassword(UUID id, String currentPassword, String newPassword) {
         log.info("Alterando senha do usuário com ID: {}", id);
         Users user = userRepository.findById(id)
@@ -215,17 +459,66 @@ public class UserService {
 
         user.setPassword(encoder.encode(newPassword));
         Users updatedUser = userRepository.save(user);
+        userDetailsCache.evict(user.getEmail());
+        publish(UserEventType.PASSWORD_CHANGED, updatedUser);
         log.info("Senha alterada com sucesso para usuário: {}", user.getEmail());
         return UserDTO.fromEntity(updatedUser);
     }
 
+    // Entregue aos assinantes de /api/users/events somente depois do commit
+    private void publish(UserEventType type, Users user) {
+        eventPublisher.publishEvent(new UserLifecycleEvent(type, user.getId(), user.getLastUpdatedAt()));
+    }
+
+    // Email e telefone únicos são garantidos pelas constraints do banco: o INSERT/UPDATE é a própria verificação
+    private Users saveUnique(Users user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraintTranslator.translate(e);
+        }
+    }
+
+    // Valida o tipo pelo registro em memória e usa uma referência, sem consultar a tabela de tipos
+    private TypeUsers activeTypeUserReference(UUID typeUserId) {
+        TypeUserData typeUser = typeUsersRegistry.findById(typeUserId)
+                .orElseThrow(() -> new BadRequestException("Tipo de usuário não encontrado"));
+
+        if (!typeUser.active()) {
+            throw new BadRequestException("Tipo de usuário não está ativo");
+        }
+
+        return typeUsersRepository.getReferenceById(typeUserId);
+    }
+
     public long countActiveUsers() {
         log.info("Contando usuários ativos");
-        return userRepository.countByIsActiveTrue();
+        if (!userCounters.isReady()) {
+            return userRepository.countByIsActiveTrue();
+        }
+        return userCounters.countActive();
     }
 
     public long countUsersByType(UUID typeUserId) {
         log.info("Contando usuários por tipo: {}", typeUserId);
-        return userRepository.countByTypeUserIdAndIsActiveTrue(typeUserId);
+        if (!userCounters.isReady()) {
+            return userRepository.countByTypeUserIdAndIsActiveTrue(typeUserId);
+        }
+        return userCounters.countActiveByType(typeUserId);
+    }
+
+    /**
+     * Instante da última reconciliação dos contadores com o banco, ou {@code null} se as contagens vêm direto do banco.
+     */
+    public Instant countsReconciledAt() {
+        return userCounters.isReady() ? userCounters.reconciledAt() : null;
+    }
+
+    private static UUID typeUserIdOf(Users user) {
+        return user.getTypeUser() != null ? user.getTypeUser().getId() : null;
+    }
+
+    private static Optional<String> etagOf(UserVersionData version) {
+        return Boolean.TRUE.equals(version.isActive()) ? Optional.of(version.etag()) : Optional.empty();
     }
 }
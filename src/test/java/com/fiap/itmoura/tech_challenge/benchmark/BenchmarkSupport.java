@@ -0,0 +1,58 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Utilitários simples de medição para os benchmarks de integração (tag "benchmark").
+ * Os parâmetros podem ser sobrescritos via -Dbenchmark.*.
+ */
+final class BenchmarkSupport {
+
+    private final List<Result> results = new ArrayList<>();
+
+    static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger("benchmark." + name, defaultValue);
+    }
+
+    Result measure(String label, int warmup, int iterations, Runnable action) {
+        for (int i = 0; i < warmup; i++) {
+            action.run();
+        }
+
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            action.run();
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        double mean = Arrays.stream(samples).average().orElse(0);
+        Result result = new Result(label, iterations, mean / 1_000_000d,
+                percentile(samples, 50) / 1_000_000d, percentile(samples, 99) / 1_000_000d);
+        results.add(result);
+        return result;
+    }
+
+    void print(String title) {
+        System.out.println();
+        System.out.println("=== " + title + " ===");
+        System.out.printf(Locale.ROOT, "%-40s %8s %12s %12s %12s%n", "cenário", "iter", "média(ms)", "p50(ms)", "p99(ms)");
+        for (Result result : results) {
+            System.out.printf(Locale.ROOT, "%-40s %8d %12.3f %12.3f %12.3f%n",
+                    result.label(), result.iterations(), result.meanMillis(), result.p50Millis(), result.p99Millis());
+        }
+        System.out.println();
+    }
+
+    static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100d * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    record Result(String label, int iterations, double meanMillis, double p50Millis, double p99Millis) {
+    }
+}
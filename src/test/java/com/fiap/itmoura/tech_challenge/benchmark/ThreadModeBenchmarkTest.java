@@ -0,0 +1,154 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fiap.itmoura.tech_challenge.TechChallengeApplication;
+
+/**
+ * Compara vazão e p99 de GET /api/users/{id} e POST /api/users com o Tomcat em threads de plataforma
+ * e em virtual threads, sob a mesma carga de clientes concorrentes (modelo fechado).
+ * Em H2 a consulta é quase instantânea; para ver o efeito do limitador JDBC use um Postgres real
+ * (-Dspring.datasource.url=...).
+ * Executar com: ./gradlew benchmark --tests '*ThreadModeBenchmarkTest' -Dbenchmark.clients=400 -Dbenchmark.seconds=10
+ */
+@Tag("benchmark")
+class ThreadModeBenchmarkTest {
+
+    private final int clients = BenchmarkSupport.intProperty("clients", 400);
+    private final int seconds = BenchmarkSupport.intProperty("seconds", 10);
+    private final List<String> rows = new ArrayList<>();
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        for (boolean virtual : new boolean[] { false, true }) {
+            try (ConfigurableApplicationContext context = start(virtual);
+                    HttpClient client = HttpClient.newBuilder()
+                            .executor(Executors.newVirtualThreadPerTaskExecutor())
+                            .connectTimeout(Duration.ofSeconds(10))
+                            .build()) {
+                String mode = virtual ? "virtual" : "plataforma";
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                String token = login(client, baseUrl);
+                String userId = createUser(client, baseUrl, "alvo-" + mode, 0).body().replaceAll(".*\"id\":\"([^\"]+)\".*", "$1");
+
+                run(mode + " GET /api/users/{id}", client, sequence -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/" + userId))
+                        .header("Authorization", "Bearer " + token)
+                        .GET()
+                        .build());
+                run(mode + " POST /api/users", client, sequence -> createRequest(baseUrl, mode, sequence));
+            }
+        }
+        print();
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(TechChallengeApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.fiap.itmoura.tech_challenge=WARN");
+    }
+
+    private void run(String label, HttpClient client, LongFunction<HttpRequest> request) throws Exception {
+        AtomicLong sequence = new AtomicLong();
+        AtomicLong unavailable = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status = client.send(request.apply(sequence.incrementAndGet()), HttpResponse.BodyHandlers.discarding())
+                                .statusCode();
+                        long elapsed = System.nanoTime() - start;
+                        if (status == 503) {
+                            unavailable.incrementAndGet();
+                        } else if (status >= 400) {
+                            errors.incrementAndGet();
+                        } else {
+                            if (count == samples.length) {
+                                samples = Arrays.copyOf(samples, count * 2);
+                            }
+                            samples[count++] = elapsed;
+                        }
+                    }
+                    return Arrays.copyOf(samples, count);
+                }));
+            }
+
+            long[] all = new long[0];
+            for (Future<long[]> future : futures) {
+                long[] samples = future.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + samples.length);
+                System.arraycopy(samples, 0, all, offset, samples.length);
+            }
+            assertEquals(0, errors.get(), label + ": respostas de erro inesperadas");
+            Arrays.sort(all);
+            rows.add(String.format(Locale.ROOT, "%-36s %10d %10.1f %10.3f %10.3f %8d",
+                    label, all.length, all.length / (double) seconds,
+                    BenchmarkSupport.percentile(all, 50) / 1_000_000d,
+                    BenchmarkSupport.percentile(all, 99) / 1_000_000d,
+                    unavailable.get()));
+        }
+    }
+
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"admin@sistema.com\",\"password\":\"admin123\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        return response.body();
+    }
+
+    private static HttpResponse<String> createUser(HttpClient client, String baseUrl, String prefix, long sequence) throws Exception {
+        HttpResponse<String> response = client.send(createRequest(baseUrl, prefix, sequence), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        return response;
+    }
+
+    private static HttpRequest createRequest(String baseUrl, String prefix, long sequence) {
+        String body = String.format(Locale.ROOT,
+                "{\"name\":\"Usuário %d\",\"email\":\"%s-%d@email.com\",\"password\":\"senha123\",\"phone\":\"+55%s%09d\"}",
+                sequence, prefix, sequence, prefix.length(), sequence);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/users"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void print() {
+        System.out.println();
+        System.out.println("=== Threads de plataforma x virtual threads (" + clients + " clientes, " + seconds + " s) ===");
+        System.out.printf(Locale.ROOT, "%-36s %10s %10s %10s %10s %8s%n", "cenário", "ok", "req/s", "p50(ms)", "p99(ms)", "503");
+        rows.forEach(System.out::println);
+        System.out.println();
+    }
+}
@@ -0,0 +1,111 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fiap.itmoura.tech_challenge.model.data.KeysetCursor;
+import com.fiap.itmoura.tech_challenge.service.UserService;
+
+/**
+ * Compara OFFSET/LIMIT + COUNT com a paginação por cursor na primeira página e na página 10.000.
+ * Executar com: ./gradlew benchmark --tests '*UserPaginationBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.fiap.itmoura.tech_challenge=WARN",
+        "logging.level.org.springframework.security=WARN"
+})
+@ActiveProfiles("test")
+class UserPaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 10_000;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final int warmup = BenchmarkSupport.intProperty("warmup", 20);
+    private final int iterations = BenchmarkSupport.intProperty("iterations", 50);
+
+    @BeforeEach
+    void seed() {
+        int rows = BenchmarkSupport.intProperty("users", DEEP_PAGE * PAGE_SIZE + PAGE_SIZE);
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        if (existing != null && existing >= rows) {
+            return;
+        }
+
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[] {
+                    UUID.randomUUID(),
+                    "Usuário " + i,
+                    "benchmark" + i + "@email.com",
+                    "encodedPassword",
+                    "+55119" + String.format("%08d", i),
+                    Timestamp.valueOf(base.plusSeconds(i)),
+                    Timestamp.valueOf(base.plusSeconds(i))
+            });
+            if (batch.size() == 1000) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        insert(batch);
+    }
+
+    @Test
+    void compareOffsetAndCursorPagination() {
+        Pageable firstPage = PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt", "id"));
+        Pageable deepPage = PageRequest.of(DEEP_PAGE - 1, PAGE_SIZE, Sort.by("createdAt", "id"));
+        String deepCursor = cursorBeforeRow((long) (DEEP_PAGE - 1) * PAGE_SIZE);
+
+        BenchmarkSupport benchmark = new BenchmarkSupport();
+        benchmark.measure("offset página 1", warmup, iterations, () -> userService.findAllPaginated(firstPage));
+        benchmark.measure("offset página " + DEEP_PAGE, warmup, iterations, () -> userService.findAllPaginated(deepPage));
+        benchmark.measure("cursor página 1", warmup, iterations, () -> userService.findAllByCursor(null, PAGE_SIZE));
+        benchmark.measure("cursor página " + DEEP_PAGE, warmup, iterations, () -> userService.findAllByCursor(deepCursor, PAGE_SIZE));
+        benchmark.print("Paginação de usuários ativos (" + PAGE_SIZE + " por página)");
+
+        assertEquals(
+                userService.findAllPaginated(deepPage).getContent().get(0).id(),
+                userService.findAllByCursor(deepCursor, PAGE_SIZE).content().get(0).id());
+    }
+
+    private String cursorBeforeRow(long offset) {
+        return jdbcTemplate.queryForObject(
+                "SELECT created_at, id FROM users WHERE is_active = TRUE ORDER BY created_at, id LIMIT 1 OFFSET ?",
+                (rs, rowNum) -> new KeysetCursor(
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getObject("id", UUID.class)).encode(),
+                offset - 1);
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, name, email, password, phone, created_at, last_updated_at, is_active) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, TRUE)",
+                batch);
+    }
+}
@@ -0,0 +1,107 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+import com.fiap.itmoura.tech_challenge.service.UserNameIndex;
+
+/**
+ * Compara a busca por nome via LIKE no banco com o índice de trigramas em memória.
+ * Executar com: ./gradlew benchmark --tests '*UserSearchBenchmarkTest' -Dbenchmark.users=1000000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.fiap.itmoura.tech_challenge=WARN",
+        "logging.level.org.springframework.security=WARN"
+})
+@ActiveProfiles("test")
+class UserSearchBenchmarkTest {
+
+    private static final int TOP_K = 20;
+    private static final String[] FIRST_NAMES = {
+            "Ana", "João", "Maria", "José", "Francisco", "Antônia", "Carlos", "Paulo", "Pedro", "Lucas",
+            "Luiz", "Marcos", "Luís", "Gabriel", "Rafael", "Márcia", "Daniel", "Marcelo", "Bruno", "Eduardo" };
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa" };
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserNameIndex userNameIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final int warmup = BenchmarkSupport.intProperty("warmup", 10);
+    private final int iterations = BenchmarkSupport.intProperty("iterations", 30);
+
+    @BeforeEach
+    void seed() {
+        int rows = BenchmarkSupport.intProperty("users", 200_000);
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        if (existing == null || existing < rows) {
+            LocalDateTime base = LocalDateTime.now().minusYears(1);
+            List<Object[]> batch = new ArrayList<>();
+            for (int i = 0; i < rows; i++) {
+                String name = FIRST_NAMES[i % FIRST_NAMES.length] + " "
+                        + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length] + " "
+                        + LAST_NAMES[(i / 7) % LAST_NAMES.length] + " " + i;
+                batch.add(new Object[] {
+                        UUID.randomUUID(),
+                        name,
+                        "busca" + i + "@email.com",
+                        "encodedPassword",
+                        "+55219" + String.format("%08d", i),
+                        Timestamp.valueOf(base.plusSeconds(i)),
+                        Timestamp.valueOf(base.plusSeconds(i))
+                });
+                if (batch.size() == 1000) {
+                    insert(batch);
+                    batch.clear();
+                }
+            }
+            insert(batch);
+        }
+        userNameIndex.rebuild();
+    }
+
+    @Test
+    void compareLikeAndTrigramIndex() {
+        BenchmarkSupport benchmark = new BenchmarkSupport();
+        for (String query : new String[] { "silva", "marcos ribeiro", "12345" }) {
+            benchmark.measure("LIKE '" + query + "'", warmup, iterations,
+                    () -> userRepository.findByNameContainingIgnoreCaseAndIsActiveTrue(query));
+            benchmark.measure("trigramas '" + query + "' top " + TOP_K, warmup, iterations,
+                    () -> userNameIndex.search(query, TOP_K));
+        }
+        benchmark.print("Busca por nome (" + userNameIndex.size() + " usuários ativos)");
+
+        assertEquals(
+                userRepository.findByNameContainingIgnoreCaseAndIsActiveTrue("12345").size(),
+                userNameIndex.search("12345", Integer.MAX_VALUE).total());
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, name, email, password, phone, created_at, last_updated_at, is_active) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, TRUE)",
+                batch);
+    }
+}
@@ -0,0 +1,111 @@
+package com.fiap.itmoura.tech_challenge.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fiap.itmoura.tech_challenge.model.entity.id.UuidV7Generator;
+
+/**
+ * Compara a vazão de inserts e o tamanho do índice da chave primária com UUID aleatório (v4) e ordenado por tempo (v7).
+ * Executar com: ./gradlew benchmark --tests '*UuidInsertBenchmarkTest'
+ * Para medir em Postgres: -Dspring.datasource.url=jdbc:postgresql://... -Dspring.datasource.username=... -Dspring.datasource.password=...
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.fiap.itmoura.tech_challenge=WARN",
+        "logging.level.org.springframework.security=WARN"
+})
+@ActiveProfiles("test")
+class UuidInsertBenchmarkTest {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String V4_TABLE = "uuid_benchmark_v4";
+    private static final String V7_TABLE = "uuid_benchmark_v7";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final int rows = BenchmarkSupport.intProperty("rows", 500_000);
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + V4_TABLE);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + V7_TABLE);
+    }
+
+    @Test
+    void compareRandomAndTimeOrderedIds() {
+        // Aquecimento curto para não penalizar quem roda primeiro
+        insertRows(V4_TABLE, UUID::randomUUID, 50_000);
+        insertRows(V7_TABLE, UuidV7Generator::generate, 50_000);
+        dropTables();
+
+        Result v4 = insertRows(V4_TABLE, UUID::randomUUID, rows);
+        Result v7 = insertRows(V7_TABLE, UuidV7Generator::generate, rows);
+
+        System.out.println();
+        System.out.println("=== Inserts com chave UUID (" + rows + " linhas, " + databaseProduct() + ") ===");
+        System.out.printf(Locale.ROOT, "%-20s %12s %14s %16s%n", "gerador", "tempo(ms)", "linhas/s", "índice(bytes)");
+        print("UUID v4 (atual)", v4);
+        print("UUID v7", v7);
+        System.out.println();
+    }
+
+    private Result insertRows(String table, Supplier<UUID> ids, int count) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, name VARCHAR(100) NOT NULL)");
+
+        long start = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[] { ids.get(), "Usuário " + i });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id, name) VALUES (?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id, name) VALUES (?, ?)", batch);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new Result(elapsedMillis, count * 1000d / Math.max(1, elapsedMillis), indexSize(table));
+    }
+
+    private Long indexSize(String table) {
+        String product = databaseProduct();
+        if (product.startsWith("PostgreSQL")) {
+            return jdbcTemplate.queryForObject("SELECT pg_indexes_size(?::regclass)", Long.class, table);
+        }
+        if (product.startsWith("H2")) {
+            // No H2 o espaço é reportado por tabela (incluindo o índice primário) e é zero em bancos em memória
+            Long used = jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED(?)", Long.class, table.toUpperCase(Locale.ROOT));
+            return used != null && used > 0 ? used : null;
+        }
+        return null;
+    }
+
+    private String databaseProduct() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf(Locale.ROOT, "%-20s %12d %14.0f %16s%n", label, result.elapsedMillis(), result.rowsPerSecond(),
+                result.indexBytes() != null ? result.indexBytes() : "n/d");
+    }
+
+    private record Result(long elapsedMillis, double rowsPerSecond, Long indexBytes) {
+    }
+}
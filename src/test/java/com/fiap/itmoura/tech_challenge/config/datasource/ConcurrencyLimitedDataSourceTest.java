@@ -0,0 +1,92 @@
+package com.fiap.itmoura.tech_challenge.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, 0, Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_WhenPermitIsAvailable_ShouldReleaseOnClose() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+
+        // Act
+        Connection first = dataSource.getConnection();
+        int activeWhileOpen = dataSource.getActive();
+        first.close();
+        first.close();
+        Connection second = dataSource.getConnection();
+
+        // Assert
+        assertEquals(1, activeWhileOpen);
+        assertNotNull(second);
+        verify(connection, times(2)).close();
+        assertEquals(1, dataSource.getActive());
+    }
+
+    @Test
+    void getConnection_WhenLimitIsReachedAndQueueIsFull_ShouldRejectImmediately() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+
+        // Act & Assert
+        ConnectionLimitExceededException exception = assertThrows(ConnectionLimitExceededException.class, () -> dataSource.getConnection());
+        assertEquals(Duration.ofMillis(50), exception.getRetryAfter());
+        assertEquals(1, dataSource.getRejected());
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_WhenWaitTimesOut_ShouldReject() throws SQLException {
+        // Arrange
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, 10, Duration.ofMillis(20));
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThrows(ConnectionLimitExceededException.class, () -> dataSource.getConnection());
+        assertEquals(0, dataSource.getWaiting());
+        assertEquals(1, dataSource.getRejected());
+    }
+
+    @Test
+    void getConnection_WhenTargetFails_ShouldReleasePermit() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLException("falha")).thenReturn(connection);
+
+        // Act
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+        Connection connected = dataSource.getConnection();
+
+        // Assert
+        assertNotNull(connected);
+        assertEquals(1, dataSource.getActive());
+    }
+}
@@ -0,0 +1,78 @@
+package com.fiap.itmoura.tech_challenge.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SqlStatementCountFilterTest {
+
+    private SqlStatementCounter counter;
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SqlStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlStatementCountFilter(counter, meterRegistry, 2);
+    }
+
+    @Test
+    void doFilter_WhenRequestRunsStatements_ShouldReportHeaderAndMetric() throws Exception {
+        // Arrange
+        var request = new MockHttpServletRequest("GET", "/api/users");
+        var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/users");
+            counter.inspect("select * from users");
+            counter.inspect("select * from address where id=?");
+            counter.inspect("select * from address where id=?");
+        });
+
+        // Assert
+        assertEquals("3", response.getHeader(SqlStatementCountFilter.HEADER));
+        var summary = meterRegistry.get("http.server.requests.sql.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/users")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+        assertEquals(0, counter.current());
+    }
+
+    @Test
+    void doFilter_WhenResponseIsCommittedEarly_ShouldWriteCountSoFar() throws Exception {
+        // Arrange
+        var request = new MockHttpServletRequest("GET", "/api/users/count");
+        var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            counter.inspect("select count(*) from users");
+            res.flushBuffer();
+            counter.inspect("select 1");
+        });
+
+        // Assert
+        assertEquals("1", response.getHeader(SqlStatementCountFilter.HEADER));
+        assertEquals(2, meterRegistry.get("http.server.requests.sql.statements").tag("uri", "UNKNOWN").summary().totalAmount());
+    }
+
+    @Test
+    void inspect_WhenNoRequestIsBeingCounted_ShouldIgnoreStatement() {
+        // Act
+        String sql = counter.inspect("select 1");
+
+        // Assert
+        assertEquals("select 1", sql);
+        assertEquals(0, counter.current());
+    }
+}
@@ -0,0 +1,48 @@
+package com.fiap.itmoura.tech_challenge.config.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class BcryptStrengthCalibratorTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void choose_WhenHardwareIsFast_ShouldRaiseStrengthUntilTarget() {
+        // Act
+        int strength = BcryptStrengthCalibrator.choose(6 * MILLIS, Duration.ofMillis(50), 10, 14);
+
+        // Assert: 6 -> 12 -> 24 -> 48 ms
+        assertEquals(13, strength);
+    }
+
+    @Test
+    void choose_ShouldNeverExceedMaxStrength() {
+        // Act
+        int strength = BcryptStrengthCalibrator.choose(MILLIS, Duration.ofSeconds(1), 10, 14);
+
+        // Assert
+        assertEquals(14, strength);
+    }
+
+    @Test
+    void choose_WhenMinStrengthIsAlreadySlowerThanTarget_ShouldKeepMinStrength() {
+        // Act
+        int strength = BcryptStrengthCalibrator.choose(80 * MILLIS, Duration.ofMillis(50), 10, 14);
+
+        // Assert
+        assertEquals(10, strength);
+    }
+
+    @Test
+    void calibrate_ShouldReturnStrengthWithinBounds() {
+        // Act
+        int strength = BcryptStrengthCalibrator.calibrate(Duration.ofMillis(50), 4, 6);
+
+        // Assert
+        assertTrue(strength >= 4 && strength <= 6);
+    }
+}
@@ -0,0 +1,84 @@
+package com.fiap.itmoura.tech_challenge.config.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JWTTokenServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JWTTokenService jwtTokenService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenService = new JWTTokenService(meterRegistry, "test-secret", 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void verify_WhenTokenIsValid_ShouldReturnSubject() {
+        // Arrange
+        String token = jwtTokenService.sign("joao@email.com", new Date(System.currentTimeMillis() + 60_000));
+
+        // Act
+        String subject = jwtTokenService.verify(token);
+
+        // Assert
+        assertEquals("joao@email.com", subject);
+    }
+
+    @Test
+    void verify_WhenTokenIsVerifiedTwice_ShouldReturnSameSubject() {
+        // Arrange
+        String token = jwtTokenService.sign("joao@email.com", new Date(System.currentTimeMillis() + 60_000));
+        jwtTokenService.verify(token);
+
+        // Act
+        String subject = jwtTokenService.verify(token);
+
+        // Assert
+        assertEquals("joao@email.com", subject);
+        assertEquals(1, meterRegistry.get("jwt.verify").tags("cache", "miss", "result", "valid").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.verify").tags("cache", "hit").timer().count());
+    }
+
+    @Test
+    void verify_WhenTokenIsSignedWithAnotherKey_ShouldThrowException() {
+        // Arrange
+        JWTTokenService otherService = new JWTTokenService(new SimpleMeterRegistry(), "other-secret", 100, Duration.ofMinutes(5));
+        String token = otherService.sign("joao@email.com", new Date(System.currentTimeMillis() + 60_000));
+
+        // Act & Assert
+        assertThrows(JWTVerificationException.class, () -> jwtTokenService.verify(token));
+        assertEquals(1, meterRegistry.get("jwt.verify").tags("result", "invalid").timer().count());
+    }
+
+    @Test
+    void verify_WhenTokenIsExpired_ShouldThrowException() {
+        // Arrange
+        String token = jwtTokenService.sign("joao@email.com", new Date(System.currentTimeMillis() - 60_000));
+
+        // Act & Assert
+        assertThrows(TokenExpiredException.class, () -> jwtTokenService.verify(token));
+    }
+
+    @Test
+    void verify_WhenTokenIsTampered_ShouldThrowException() {
+        // Arrange
+        String token = jwtTokenService.sign("joao@email.com", new Date(System.currentTimeMillis() + 60_000));
+        jwtTokenService.verify(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // Act & Assert
+        assertThrows(JWTVerificationException.class, () -> jwtTokenService.verify(tampered));
+    }
+}
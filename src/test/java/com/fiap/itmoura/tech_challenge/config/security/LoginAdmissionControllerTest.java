@@ -0,0 +1,67 @@
+package com.fiap.itmoura.tech_challenge.config.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fiap.itmoura.tech_challenge.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginAdmissionControllerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAdmissionController admission;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admission = new LoginAdmissionController(meterRegistry, 2, 1, Duration.ofSeconds(2));
+    }
+
+    @Test
+    void admit_WhenGlobalLimitIsReached_ShouldRejectWithRetryAfter() {
+        // Arrange
+        admission.admit("joao@email.com");
+        admission.admit("maria@email.com");
+
+        // Act
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> admission.admit("ana@email.com"));
+
+        // Assert
+        assertEquals("2", exception.getRetryAfterSeconds());
+        assertEquals(2, admission.inFlight());
+        assertEquals(1, meterRegistry.get("login.admission.rejected").tag("reason", "global").counter().count());
+    }
+
+    @Test
+    void admit_WhenSameEmailIsInFlight_ShouldRejectIgnoringCase() {
+        // Arrange
+        admission.admit("joao@email.com");
+
+        // Act & Assert
+        assertThrows(TooManyRequestsException.class, () -> admission.admit(" JOAO@email.com"));
+        assertEquals(1, admission.inFlight());
+        assertEquals(1, meterRegistry.get("login.admission.rejected").tag("reason", "email").counter().count());
+    }
+
+    @Test
+    void close_ShouldReleaseBothLimitsOnlyOnce() {
+        // Arrange
+        LoginAdmissionController.Permit permit = admission.admit("joao@email.com");
+
+        // Act
+        permit.close();
+        permit.close();
+
+        // Assert
+        assertEquals(0, admission.inFlight());
+        assertEquals(0, meterRegistry.get("login.admission.emails").gauge().value());
+        assertDoesNotThrow(() -> admission.admit("joao@email.com"));
+        assertDoesNotThrow(() -> admission.admit("maria@email.com"));
+    }
+}
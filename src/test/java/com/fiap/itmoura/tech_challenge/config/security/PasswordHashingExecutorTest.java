@@ -0,0 +1,124 @@
+package com.fiap.itmoura.tech_challenge.config.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fiap.itmoura.tech_challenge.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_ShouldRunOnPoolThreadAndRecordLatency() {
+        // Act
+        String threadName = executor.execute("encode", () -> Thread.currentThread().getName());
+
+        // Assert
+        assertTrue(threadName.startsWith("password-hash-"));
+        assertEquals(1, meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void execute_WhenTaskFails_ShouldRethrowOriginalException() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> executor.execute("matches", () -> {
+                    throw new IllegalArgumentException("hash inválido");
+                }));
+        assertEquals("hash inválido", exception.getMessage());
+    }
+
+    @Test
+    void execute_WhenPoolAndQueueAreFull_ShouldRejectWithRetryAfter() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = executor.submitWhenAvailable("encode", () -> await(release));
+        CompletableFuture<Boolean> queued = executor.submitWhenAvailable("encode", () -> await(release));
+
+        // Act
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> executor.execute("encode", () -> "hash"));
+
+        // Assert
+        assertEquals("2", exception.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("password.hash.rejected").counter().count());
+        release.countDown();
+        assertTrue(running.get());
+        assertTrue(queued.get());
+        assertEquals("hash", executor.execute("encode", () -> "hash"));
+    }
+
+    @Test
+    void execute_WhenInterruptedWhileQueued_ShouldReleaseSlot() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = executor.submitWhenAvailable("encode", () -> await(release));
+        Thread waiter = Thread.ofPlatform().start(() ->
+                assertThrows(IllegalStateException.class, () -> executor.execute("encode", () -> "hash")));
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        waiter.interrupt();
+        waiter.join(5_000);
+        release.countDown();
+        running.get();
+
+        // Assert
+        assertTrue(executor.submitIfAvailable("encode", () -> await(release)).isPresent());
+        assertTrue(executor.submitIfAvailable("encode", () -> await(release)).isPresent());
+    }
+
+    @Test
+    void submitIfAvailable_WhenPoolAndQueueAreFull_ShouldNotSchedule() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = executor.submitWhenAvailable("encode", () -> await(release));
+        CompletableFuture<Boolean> queued = executor.submitWhenAvailable("encode", () -> await(release));
+
+        // Act
+        var skipped = executor.submitIfAvailable("encode", () -> "hash");
+        release.countDown();
+        running.get();
+        queued.get();
+        var scheduled = executor.submitIfAvailable("encode", () -> "hash");
+
+        // Assert
+        assertTrue(skipped.isEmpty());
+        assertEquals("hash", scheduled.orElseThrow().get());
+        assertEquals(0, meterRegistry.get("password.hash.rejected").counter().count());
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
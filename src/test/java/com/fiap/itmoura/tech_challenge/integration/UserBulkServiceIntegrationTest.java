@@ -0,0 +1,105 @@
+package com.fiap.itmoura.tech_challenge.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkRequestDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkResultDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserDTO;
+import com.fiap.itmoura.tech_challenge.model.entity.Users;
+import com.fiap.itmoura.tech_challenge.repository.TypeUsersRepository;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+import com.fiap.itmoura.tech_challenge.service.UserBulkService;
+import com.fiap.itmoura.tech_challenge.service.UserCounters;
+import com.fiap.itmoura.tech_challenge.service.UserNameIndex;
+import com.fiap.itmoura.tech_challenge.service.UserService;
+
+/**
+ * Roda o SELECT ... FOR UPDATE da projeção e o UPDATE em massa no H2, com lotes menores que a lista de IDs.
+ */
+@SpringBootTest(properties = {
+        "tech-challenge.user-bulk.chunk-size=2",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.security=WARN"
+})
+@ActiveProfiles("test")
+class UserBulkServiceIntegrationTest {
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TypeUsersRepository typeUsersRepository;
+
+    @Autowired
+    private UserCounters userCounters;
+
+    @Autowired
+    private UserNameIndex userNameIndex;
+
+    private UUID typeUserId;
+    private LocalDateTime createdFrom;
+    private List<UUID> ids;
+
+    @BeforeEach
+    void setUp() {
+        typeUserId = typeUsersRepository.findByName("Moderador").orElseThrow().getId();
+        createdFrom = LocalDateTime.now().minusSeconds(1);
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        ids = List.of(create(run, 1), create(run, 2), create(run, 3));
+    }
+
+    @Test
+    void deactivateThenActivate_ShouldUpdateRowsCountersAndNameIndex() {
+        // Arrange
+        long activeBefore = userCounters.countActiveByType(typeUserId);
+        LocalDateTime updatedBefore = userRepository.findById(ids.get(0)).orElseThrow().getLastUpdatedAt();
+        UUID missing = UUID.randomUUID();
+
+        // Act
+        UserBulkResultDTO deactivated = userBulkService.deactivate(
+                new UserBulkRequestDTO(List.of(ids.get(0), ids.get(1), ids.get(2), ids.get(0), missing), null, null, null));
+        UserBulkResultDTO repeated = userBulkService.deactivate(new UserBulkRequestDTO(ids, null, null, null));
+
+        // Assert
+        assertEquals(3, deactivated.affected());
+        assertEquals(1, deactivated.unchanged());
+        assertEquals(0, repeated.affected());
+        assertEquals(3, repeated.unchanged());
+        Users first = userRepository.findById(ids.get(0)).orElseThrow();
+        assertFalse(first.getIsActive());
+        assertTrue(first.getLastUpdatedAt().isAfter(updatedBefore));
+        assertEquals(activeBefore - 3, userCounters.countActiveByType(typeUserId));
+        assertFalse(userNameIndex.search(first.getName(), 10).ids().contains(first.getId()));
+
+        // Act
+        UserBulkResultDTO activated = userBulkService.activate(new UserBulkRequestDTO(null, typeUserId, createdFrom, null));
+
+        // Assert
+        assertEquals(3, activated.affected());
+        assertTrue(userRepository.findAllById(ids).stream().allMatch(Users::getIsActive));
+        assertEquals(activeBefore, userCounters.countActiveByType(typeUserId));
+        assertTrue(userNameIndex.search(first.getName(), 10).ids().contains(first.getId()));
+    }
+
+    private UUID create(String run, int index) {
+        UserDTO user = new UserDTO(null, "Moderador Lote " + run + " " + index, "lote" + run + index + "@email.com", "senha123",
+                null, null, null, "+5511" + Math.floorMod(run.hashCode(), 100_000) + index, typeUserId, null, null);
+        return userService.create(user).id();
+    }
+}
@@ -0,0 +1,52 @@
+package com.fiap.itmoura.tech_challenge.model.entity.id;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void generate_ShouldReturnVersion7WithRfcVariant() {
+        // Act
+        UUID id = UuidV7Generator.generate();
+
+        // Assert
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void generate_ShouldEmbedCurrentTimestamp() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID id = UuidV7Generator.generate();
+
+        // Assert
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before);
+        assertTrue(timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void generate_WhenCalledRepeatedly_ShouldBeUniqueAndStrictlyIncreasing() {
+        // Arrange
+        Set<UUID> ids = new HashSet<>();
+        UUID previous = UuidV7Generator.generate();
+
+        // Act & Assert
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7Generator.generate();
+            // Comparação sem sinal, como o banco ordena o tipo UUID
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            assertTrue(ids.add(current));
+            previous = current;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.fiap.itmoura.tech_challenge.service.Impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fiap.itmoura.tech_challenge.model.data.UserDetailData;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+import com.fiap.itmoura.tech_challenge.service.UserDetailsCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserDetailsCache userDetailsCache;
+    private UserDetailServiceImpl userDetailService;
+    private UserDetailData user;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        userDetailService = new UserDetailServiceImpl(userRepository, userDetailsCache);
+
+        user = new UserDetailData(UUID.randomUUID(), "joao@email.com", "encodedPassword", true);
+    }
+
+    @Test
+    void loadUserByUsername_WhenCalledTwice_ShouldQueryRepositoryOnce() {
+        // Arrange
+        when(userRepository.findDetailByEmail("joao@email.com")).thenReturn(Optional.of(user));
+
+        // Act
+        userDetailService.loadUserByUsername("joao@email.com");
+        UserDetails result = userDetailService.loadUserByUsername("joao@email.com");
+
+        // Assert
+        assertEquals("encodedPassword", result.getPassword());
+        verify(userRepository, times(1)).findDetailByEmail("joao@email.com");
+    }
+
+    @Test
+    void loadUserByUsername_WhenUserInactive_ShouldNotBeEnabled() {
+        // Arrange
+        when(userRepository.findDetailByEmail("joao@email.com"))
+                .thenReturn(Optional.of(new UserDetailData(user.id(), user.email(), user.password(), false)));
+
+        // Act
+        UserDetails result = userDetailService.loadUserByUsername("joao@email.com");
+
+        // Assert
+        assertFalse(result.isEnabled());
+    }
+
+    @Test
+    void loadUserByUsername_WhenEvicted_ShouldReloadFromRepository() {
+        // Arrange
+        when(userRepository.findDetailByEmail("joao@email.com")).thenReturn(Optional.of(user));
+        userDetailService.loadUserByUsername("joao@email.com");
+
+        // Act
+        userDetailsCache.evict("joao@email.com");
+        userDetailService.loadUserByUsername("joao@email.com");
+
+        // Assert
+        verify(userRepository, times(2)).findDetailByEmail("joao@email.com");
+    }
+
+    @Test
+    void loadUserByUsername_WhenReloadedBeforeCommit_ShouldEvictAgainAfterCommit() {
+        // Arrange
+        when(userRepository.findDetailByEmail("joao@email.com")).thenReturn(Optional.of(user));
+        userDetailService.loadUserByUsername("joao@email.com");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userDetailsCache.evict("joao@email.com");
+            userDetailService.loadUserByUsername("joao@email.com");
+
+            // Act
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userDetailService.loadUserByUsername("joao@email.com");
+
+        // Assert
+        verify(userRepository, times(3)).findDetailByEmail("joao@email.com");
+    }
+
+    @Test
+    void loadUserByUsername_WhenUserNotExists_ShouldNotCacheMiss() {
+        // Arrange
+        when(userRepository.findDetailByEmail("naoexiste@email.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> userDetailService.loadUserByUsername("naoexiste@email.com"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailService.loadUserByUsername("naoexiste@email.com"));
+        verify(userRepository, times(2)).findDetailByEmail("naoexiste@email.com");
+    }
+}
@@ -0,0 +1,109 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.itmoura.tech_challenge.config.security.BoundedPasswordEncoder;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordRehashServiceTest {
+
+    private static final String EMAIL = "joao@email.com";
+    private static final String OLD_HASH = "$2a$10$hashAntigo";
+    private static final String NEW_HASH = "{bcrypt}$2a$12$hashNovo";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordRehashService passwordRehashService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordRehashService = new PasswordRehashService(userRepository, passwordEncoder, userDetailsCache, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordRehashService.shutdown();
+    }
+
+    @Test
+    void rehashIfNeeded_WhenHashIsOutdated_ShouldStoreNewHashAndEvictCache() {
+        // Arrange
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeIfAvailable("senha123")).thenReturn(Optional.of(CompletableFuture.completedFuture(NEW_HASH)));
+        when(userRepository.updatePasswordIfUnchanged(EMAIL, OLD_HASH, NEW_HASH)).thenReturn(1);
+
+        // Act
+        passwordRehashService.rehashIfNeeded(EMAIL, OLD_HASH, "senha123");
+
+        // Assert
+        verify(userDetailsCache, timeout(1000)).evict(EMAIL);
+        assertEquals(1, meterRegistry.get("password.rehash").tag("result", "upgraded").counter().count());
+    }
+
+    @Test
+    void rehashIfNeeded_WhenHashIsCurrent_ShouldDoNothing() {
+        // Arrange
+        when(passwordEncoder.upgradeEncoding(NEW_HASH)).thenReturn(false);
+
+        // Act
+        passwordRehashService.rehashIfNeeded(EMAIL, NEW_HASH, "senha123");
+
+        // Assert
+        verify(passwordEncoder, never()).encodeIfAvailable(any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void rehashIfNeeded_WhenHashingPoolIsFull_ShouldSkipWithoutBlocking() {
+        // Arrange
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeIfAvailable("senha123")).thenReturn(Optional.empty());
+
+        // Act
+        passwordRehashService.rehashIfNeeded(EMAIL, OLD_HASH, "senha123");
+
+        // Assert
+        verifyNoInteractions(userRepository);
+        assertEquals(1, meterRegistry.get("password.rehash").tag("result", "skipped").counter().count());
+    }
+
+    @Test
+    void rehashIfNeeded_WhenPasswordChangedMeanwhile_ShouldKeepCache() {
+        // Arrange
+        when(passwordEncoder.upgradeEncoding(OLD_HASH)).thenReturn(true);
+        when(passwordEncoder.encodeIfAvailable("senha123")).thenReturn(Optional.of(CompletableFuture.completedFuture(NEW_HASH)));
+        when(userRepository.updatePasswordIfUnchanged(anyString(), anyString(), anyString())).thenReturn(0);
+
+        // Act
+        passwordRehashService.rehashIfNeeded(EMAIL, OLD_HASH, "senha123");
+
+        // Assert
+        verify(userRepository, timeout(1000)).updatePasswordIfUnchanged(EMAIL, OLD_HASH, NEW_HASH);
+        verify(userDetailsCache, after(100).never()).evict(any());
+    }
+}
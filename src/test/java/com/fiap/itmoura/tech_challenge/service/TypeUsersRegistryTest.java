@@ -0,0 +1,96 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.itmoura.tech_challenge.model.data.TypeUserData;
+import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
+import com.fiap.itmoura.tech_challenge.repository.TypeUsersRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TypeUsersRegistryTest {
+
+    @Mock
+    private TypeUsersRepository typeUsersRepository;
+
+    @InjectMocks
+    private TypeUsersRegistry typeUsersRegistry;
+
+    private final TypeUsers cliente = TypeUsers.builder().id(UUID.randomUUID()).name("Cliente").isActive(true).build();
+    private final TypeUsers legado = TypeUsers.builder().id(UUID.randomUUID()).name("Legado").isActive(false).build();
+
+    @Test
+    void findById_WhenNotLoaded_ShouldLoadOnceAndServeFromMemory() {
+        // Arrange
+        when(typeUsersRepository.findAll()).thenReturn(List.of(cliente, legado));
+
+        // Act
+        TypeUserData found = typeUsersRegistry.findById(cliente.getId()).orElseThrow();
+        TypeUserData inactive = typeUsersRegistry.findById(legado.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("Cliente", found.name());
+        assertFalse(inactive.active());
+        assertTrue(typeUsersRegistry.findById(UUID.randomUUID()).isEmpty());
+        verify(typeUsersRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findAllActive_ShouldExcludeInactiveTypes() {
+        // Arrange
+        when(typeUsersRepository.findAll()).thenReturn(List.of(cliente, legado));
+        typeUsersRegistry.reload();
+
+        // Act
+        List<TypeUserData> result = typeUsersRegistry.findAllActive();
+
+        // Assert
+        assertEquals(List.of(cliente.getId()), result.stream().map(TypeUserData::id).toList());
+    }
+
+    @Test
+    void put_ShouldSwapSnapshotWithoutAffectingPreviousReaders() {
+        // Arrange
+        when(typeUsersRepository.findAll()).thenReturn(List.of(cliente));
+        typeUsersRegistry.reload();
+        List<TypeUserData> before = typeUsersRegistry.findAllActive();
+        TypeUsers moderador = TypeUsers.builder().id(UUID.randomUUID()).name("Moderador").isActive(true).build();
+
+        // Act
+        typeUsersRegistry.put(moderador);
+        cliente.setIsActive(false);
+        typeUsersRegistry.put(cliente);
+
+        // Assert
+        assertEquals(1, before.size());
+        assertEquals(List.of(moderador.getId()), typeUsersRegistry.findAllActive().stream().map(TypeUserData::id).toList());
+        assertFalse(typeUsersRegistry.findById(cliente.getId()).orElseThrow().active());
+        verify(typeUsersRepository, times(1)).findAll();
+    }
+
+    @Test
+    void reload_WhenChangedByAnotherInstance_ShouldReplaceSnapshot() {
+        // Arrange
+        TypeUsers moderador = TypeUsers.builder().id(UUID.randomUUID()).name("Moderador").isActive(true).build();
+        when(typeUsersRepository.findAll()).thenReturn(List.of(cliente)).thenReturn(List.of(cliente, moderador));
+        typeUsersRegistry.reload();
+        String etagBefore = typeUsersRegistry.activeEtag();
+
+        // Act
+        typeUsersRegistry.reload();
+
+        // Assert
+        assertEquals(List.of(cliente.getId(), moderador.getId()),
+                typeUsersRegistry.findAllActive().stream().map(TypeUserData::id).toList());
+        assertNotEquals(etagBefore, typeUsersRegistry.activeEtag());
+    }
+}
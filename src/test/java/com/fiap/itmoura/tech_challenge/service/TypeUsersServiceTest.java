@@ -20,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
 import com.fiap.itmoura.tech_challenge.exception.ConflictRequestException;
+import com.fiap.itmoura.tech_challenge.model.data.TypeUserData;
 import com.fiap.itmoura.tech_challenge.model.dto.TypeUsersDTO;
 import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
 import com.fiap.itmoura.tech_challenge.repository.TypeUsersRepository;
@@ -30,6 +31,9 @@ class TypeUsersServiceTest {
     @Mock
     private TypeUsersRepository typeUsersRepository;
 
+    @Mock
+    private TypeUsersRegistry typeUsersRegistry;
+
     @InjectMocks
     private TypeUsersService typeUsersService;
 
@@ -60,8 +64,8 @@ class TypeUsersServiceTest {
     @Test
     void findAll_ShouldReturnListOfTypeUsers() {
         // Arrange
-        List<TypeUsers> typeUsersList = Arrays.asList(typeUser);
-        when(typeUsersRepository.findAllActive()).thenReturn(typeUsersList);
+        List<TypeUserData> typeUsersList = Arrays.asList(TypeUserData.fromEntity(typeUser));
+        when(typeUsersRegistry.findAllActive()).thenReturn(typeUsersList);
 
         // Act
         List<TypeUsersDTO> result = typeUsersService.findAll();
@@ -70,13 +74,14 @@ class TypeUsersServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(typeUser.getName(), result.get(0).getName());
-        verify(typeUsersRepository).findAllActive();
+        verify(typeUsersRegistry).findAllActive();
+        verifyNoInteractions(typeUsersRepository);
     }
 
     @Test
     void findById_WhenTypeUserExists_ShouldReturnTypeUser() {
         // Arrange
-        when(typeUsersRepository.findById(typeUserId)).thenReturn(Optional.of(typeUser));
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(typeUser)));
 
         // Act
         TypeUsersDTO result = typeUsersService.findById(typeUserId);
@@ -85,28 +90,29 @@ class TypeUsersServiceTest {
         assertNotNull(result);
         assertEquals(typeUser.getName(), result.getName());
         assertEquals(typeUser.getDescription(), result.getDescription());
-        verify(typeUsersRepository).findById(typeUserId);
+        verify(typeUsersRegistry).findById(typeUserId);
+        verifyNoInteractions(typeUsersRepository);
     }
 
     @Test
     void findById_WhenTypeUserNotExists_ShouldThrowBadRequestException() {
         // Arrange
-        when(typeUsersRepository.findById(typeUserId)).thenReturn(Optional.empty());
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(BadRequestException.class, () -> typeUsersService.findById(typeUserId));
-        verify(typeUsersRepository).findById(typeUserId);
+        verify(typeUsersRegistry).findById(typeUserId);
     }
 
     @Test
     void findById_WhenTypeUserIsInactive_ShouldThrowBadRequestException() {
         // Arrange
         typeUser.setIsActive(false);
-        when(typeUsersRepository.findById(typeUserId)).thenReturn(Optional.of(typeUser));
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(typeUser)));
 
         // Act & Assert
         assertThrows(BadRequestException.class, () -> typeUsersService.findById(typeUserId));
-        verify(typeUsersRepository).findById(typeUserId);
+        verify(typeUsersRegistry).findById(typeUserId);
     }
 
     @Test
@@ -124,6 +130,7 @@ class TypeUsersServiceTest {
         assertEquals(typeUsersDTO.getDescription(), result.getDescription());
         verify(typeUsersRepository).existsByName(typeUsersDTO.getName());
         verify(typeUsersRepository).save(any(TypeUsers.class));
+        verify(typeUsersRegistry).put(typeUser);
     }
 
     @Test
@@ -135,6 +142,7 @@ class TypeUsersServiceTest {
         assertThrows(ConflictRequestException.class, () -> typeUsersService.create(typeUsersDTO));
         verify(typeUsersRepository).existsByName(typeUsersDTO.getName());
         verify(typeUsersRepository, never()).save(any(TypeUsers.class));
+        verifyNoInteractions(typeUsersRegistry);
     }
 
     @Test
@@ -177,6 +185,8 @@ class TypeUsersServiceTest {
         // Assert
         verify(typeUsersRepository).findById(typeUserId);
         verify(typeUsersRepository).save(any(TypeUsers.class));
+        verify(typeUsersRegistry).put(typeUser);
+        assertFalse(typeUser.getIsActive());
     }
 
     @Test
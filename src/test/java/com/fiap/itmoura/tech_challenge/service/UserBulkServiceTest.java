@@ -0,0 +1,155 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
+import com.fiap.itmoura.tech_challenge.model.data.UserLifecycleEvent;
+import com.fiap.itmoura.tech_challenge.model.data.UserStatusData;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkRequestDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBulkResultDTO;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Mock
+    private UserCounters userCounters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private UserBulkService userBulkService;
+
+    private TypedQuery<UserStatusData> query;
+    private UUID typeUserId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        typeUserId = UUID.randomUUID();
+        query = mock(TypedQuery.class, RETURNS_SELF);
+        ReflectionTestUtils.setField(userBulkService, "chunkSize", 2);
+        userBulkService.init();
+    }
+
+    @Test
+    void deactivate_WhenIdsGiven_ShouldUpdateInChunksAndAdjustCaches() {
+        // Arrange
+        UserStatusData first = status("a@email.com");
+        UserStatusData second = status("b@email.com");
+        UUID missing = UUID.randomUUID();
+        mockQuery();
+        when(query.getResultList()).thenReturn(List.of(first, second)).thenReturn(List.of());
+        when(userRepository.updateActiveByIdIn(eq(List.of(first.id(), second.id())), eq(false), any())).thenReturn(2);
+
+        // Act
+        UserBulkResultDTO result = userBulkService.deactivate(
+                new UserBulkRequestDTO(List.of(first.id(), second.id(), first.id(), missing), null, null, null));
+
+        // Assert
+        assertEquals(2, result.affected());
+        assertEquals(1, result.unchanged());
+        verify(query).setParameter("ids", List.of(first.id(), second.id()));
+        verify(query).setParameter("ids", List.of(missing));
+        verify(query, times(2)).setLockMode(LockModeType.PESSIMISTIC_WRITE);
+        verify(userRepository, times(1)).updateActiveByIdIn(any(), anyBoolean(), any());
+        verify(userDetailsCache).evict("a@email.com");
+        verify(userDetailsCache).evict("b@email.com");
+        verify(userNameIndex).remove(first.id());
+        verify(userCounters, times(2)).decrement(typeUserId);
+        verify(eventPublisher, times(2)).publishEvent(any(UserLifecycleEvent.class));
+    }
+
+    @Test
+    void activate_WhenFilterGiven_ShouldWalkChunksByIdUntilNothingChanges() {
+        // Arrange
+        UserStatusData first = status("a@email.com");
+        UserStatusData second = status("b@email.com");
+        UserStatusData third = status("c@email.com");
+        LocalDateTime createdFrom = LocalDateTime.now().minusDays(7);
+        mockQuery();
+        when(query.getResultList()).thenReturn(List.of(first, second)).thenReturn(List.of(third)).thenReturn(List.of());
+        when(userRepository.updateActiveByIdIn(any(), eq(true), any())).thenReturn(2, 1);
+
+        // Act
+        UserBulkResultDTO result = userBulkService.activate(new UserBulkRequestDTO(null, typeUserId, createdFrom, null));
+
+        // Assert
+        assertEquals(3, result.affected());
+        verify(query, times(3)).setParameter("typeUserId", typeUserId);
+        verify(query, times(3)).setParameter("createdFrom", createdFrom);
+        verify(query).setParameter("after", second.id());
+        verify(query).setParameter("after", third.id());
+        verify(userNameIndex).put(third.id(), third.name());
+        verify(userCounters, times(3)).increment(typeUserId);
+    }
+
+    @Test
+    void deactivate_WhenIdsAndFilterGiven_ShouldThrowBadRequest() {
+        // Arrange
+        UserBulkRequestDTO request = new UserBulkRequestDTO(List.of(UUID.randomUUID()), typeUserId, null, null);
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userBulkService.deactivate(request));
+        verifyNoInteractions(entityManager, userRepository);
+    }
+
+    @Test
+    void activate_WhenNeitherIdsNorFilterGiven_ShouldThrowBadRequest() {
+        // Arrange
+        UserBulkRequestDTO request = new UserBulkRequestDTO(List.of(), null, null, null);
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userBulkService.activate(request));
+        verifyNoInteractions(entityManager, userRepository);
+    }
+
+    private void mockQuery() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(entityManager.createQuery(anyString(), eq(UserStatusData.class))).thenReturn(query);
+    }
+
+    private UserStatusData status(String email) {
+        return new UserStatusData(UUID.randomUUID(), email, "Usuário " + email, typeUserId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.itmoura.tech_challenge.model.data.ActiveUserCount;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserCountersTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserCounters userCounters;
+
+    private final UUID cliente = UUID.randomUUID();
+    private final UUID moderador = UUID.randomUUID();
+
+    @Test
+    void reconcile_ShouldLoadTotalsFromDatabase() {
+        // Arrange
+        when(userRepository.countActiveGroupedByType()).thenReturn(List.of(
+                new ActiveUserCount(cliente, 10L),
+                new ActiveUserCount(null, 2L)));
+
+        // Act
+        userCounters.reconcile();
+
+        // Assert
+        assertTrue(userCounters.isReady());
+        assertNotNull(userCounters.reconciledAt());
+        assertEquals(12, userCounters.countActive());
+        assertEquals(10, userCounters.countActiveByType(cliente));
+        assertEquals(0, userCounters.countActiveByType(moderador));
+    }
+
+    @Test
+    void transitions_ShouldAdjustTotalAndTypeCounters() {
+        // Arrange
+        when(userRepository.countActiveGroupedByType()).thenReturn(List.of(new ActiveUserCount(cliente, 10L)));
+        userCounters.reconcile();
+
+        // Act
+        userCounters.increment(cliente);
+        userCounters.increment(null);
+        userCounters.decrement(cliente);
+        userCounters.move(cliente, moderador);
+
+        // Assert
+        assertEquals(11, userCounters.countActive());
+        assertEquals(9, userCounters.countActiveByType(cliente));
+        assertEquals(1, userCounters.countActiveByType(moderador));
+    }
+
+    @Test
+    void reconcile_WhenWritesHappenDuringQuery_ShouldKeepThem() {
+        // Arrange
+        when(userRepository.countActiveGroupedByType()).thenAnswer(invocation -> {
+            // Usuário criado depois do snapshot lido pela consulta
+            userCounters.increment(cliente);
+            return List.of(new ActiveUserCount(cliente, 5L));
+        });
+
+        // Act
+        userCounters.reconcile();
+
+        // Assert
+        assertEquals(6, userCounters.countActive());
+        assertEquals(6, userCounters.countActiveByType(cliente));
+    }
+
+    @Test
+    void reconcile_ShouldReplaceDriftedValues() {
+        // Arrange
+        when(userRepository.countActiveGroupedByType())
+                .thenReturn(List.of(new ActiveUserCount(cliente, 5L)))
+                .thenReturn(List.of(new ActiveUserCount(cliente, 3L)));
+        userCounters.reconcile();
+        userCounters.increment(cliente);
+
+        // Act
+        userCounters.reconcile();
+
+        // Assert
+        assertEquals(3, userCounters.countActive());
+    }
+}
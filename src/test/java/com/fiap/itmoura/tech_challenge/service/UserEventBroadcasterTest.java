@@ -0,0 +1,149 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fiap.itmoura.tech_challenge.model.data.UserLifecycleEvent;
+import com.fiap.itmoura.tech_challenge.model.dto.UserEventDTO;
+import com.fiap.itmoura.tech_challenge.model.enums.UserEventType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserEventBroadcasterTest {
+
+    private static final int BUFFER_SIZE = 8;
+    private static final int REPLAY_SIZE = 3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new UserEventBroadcaster(meterRegistry, BUFFER_SIZE, REPLAY_SIZE, Duration.ofMinutes(1), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void publish_ShouldDeliverEventToSubscriber() throws Exception {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster.subscribe(emitter, null);
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        broadcaster.publish(new UserLifecycleEvent(UserEventType.CREATED, userId, LocalDateTime.now()));
+
+        // Assert
+        UserEventDTO event = (UserEventDTO) emitter.next();
+        assertEquals(UserEventType.CREATED, event.type());
+        assertEquals(userId, event.userId());
+        assertEquals(1.0, meterRegistry.counter("user.events.published").count());
+    }
+
+    @Test
+    void subscribe_WhenLastEventIdIsInReplay_ShouldResendMissedEvents() throws Exception {
+        // Arrange
+        RecordingEmitter first = new RecordingEmitter(null);
+        broadcaster.subscribe(first, null);
+        publish(3);
+        long firstId = ((UserEventDTO) first.next()).id();
+
+        // Act
+        RecordingEmitter resumed = new RecordingEmitter(null);
+        broadcaster.subscribe(resumed, String.valueOf(firstId));
+
+        // Assert
+        assertEquals(firstId + 1, ((UserEventDTO) resumed.next()).id());
+        assertEquals(firstId + 2, ((UserEventDTO) resumed.next()).id());
+    }
+
+    @Test
+    void subscribe_WhenLastEventIdIsOlderThanReplay_ShouldSendResync() throws Exception {
+        // Arrange
+        RecordingEmitter first = new RecordingEmitter(null);
+        broadcaster.subscribe(first, null);
+        publish(REPLAY_SIZE + 2);
+        long firstId = ((UserEventDTO) first.next()).id();
+
+        // Act
+        RecordingEmitter resumed = new RecordingEmitter(null);
+        broadcaster.subscribe(resumed, String.valueOf(firstId));
+
+        // Assert
+        assertTrue(resumed.next().toString().contains("event:" + UserEventBroadcaster.RESYNC_EVENT));
+    }
+
+    @Test
+    void publish_WhenSubscriberFallsBehind_ShouldDropItWithoutBlocking() throws Exception {
+        // Arrange
+        CountDownLatch slowClient = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(slowClient);
+        broadcaster.subscribe(slow, null);
+
+        // Act
+        publish(BUFFER_SIZE + 2);
+
+        // Assert
+        assertEquals(0, broadcaster.subscriberCount());
+        assertEquals(1.0, meterRegistry.counter("user.events.dropped").count());
+        slowClient.countDown();
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            broadcaster.publish(new UserLifecycleEvent(UserEventType.UPDATED, UUID.randomUUID(), LocalDateTime.now()));
+        }
+    }
+
+    // Registra os dados enviados; com trava, simula um cliente que não lê a resposta
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final LinkedBlockingQueue<Object> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                if (release != null) {
+                    release.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            List<Object> data = new ArrayList<>();
+            builder.build().stream().map(DataWithMediaType::getData).forEach(data::add);
+            sent.add(data.stream().filter(UserEventDTO.class::isInstance).findFirst().orElse(String.valueOf(data)));
+        }
+
+        private Object next() throws InterruptedException {
+            Object data = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(data, "nenhum evento enviado");
+            return data;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fiap.itmoura.tech_challenge.config.security.BoundedPasswordEncoder;
+import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
+import com.fiap.itmoura.tech_challenge.model.data.TypeUserData;
+import com.fiap.itmoura.tech_challenge.model.dto.UserImportResultDTO;
+import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
+import com.fiap.itmoura.tech_challenge.model.entity.Users;
+import com.fiap.itmoura.tech_challenge.repository.TypeUsersRepository;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    private static final String HEADER = "name,email,password,phone,birthDate,typeUserId,street,number,city,state,zipCode\n";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TypeUsersRepository typeUsersRepository;
+
+    @Mock
+    private TypeUsersRegistry typeUsersRegistry;
+
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Mock
+    private UserCounters userCounters;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private UserImportService userImportService;
+
+    private UUID typeUserId;
+
+    @BeforeEach
+    void setUp() {
+        typeUserId = UUID.randomUUID();
+        ReflectionTestUtils.setField(userImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(userImportService, "hashParallelism", 2);
+        ReflectionTestUtils.setField(userImportService, "maxReportedErrors", 10);
+        userImportService.init();
+    }
+
+    @Test
+    void importCsv_WhenRowsAreValid_ShouldSaveInBatches() {
+        // Arrange
+        String csv = HEADER
+                + "João Silva,joao@email.com,senha123,(11) 99999-0001,01/01/1990," + typeUserId + ",Rua A,10,São Paulo,SP,01234-567\n"
+                + "Maria Souza,maria@email.com,senha123,(11) 99999-0002,,,,,,,\n"
+                + "\"Silva, Ana\",ana@email.com,senha123,(11) 99999-0003,,,,,,,\n";
+        mockTransactions();
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(activeType())));
+        when(typeUsersRepository.getReferenceById(typeUserId)).thenReturn(activeType());
+        when(passwordEncoder.encodeWhenAvailable(anyString())).thenReturn(CompletableFuture.completedFuture("encodedPassword"));
+
+        // Act
+        UserImportResultDTO result = userImportService.importCsv(stream(csv));
+
+        // Assert
+        assertEquals(3, result.totalRows());
+        assertEquals(3, result.imported());
+        assertEquals(0, result.failed());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Users>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(2)).saveAll(saved.capture());
+        assertEquals(2, saved.getAllValues().get(0).size());
+        assertEquals("Silva, Ana", saved.getAllValues().get(1).get(0).getName());
+        assertEquals("01234-567", saved.getAllValues().get(0).get(0).getAddress().getZipCode());
+        verify(typeUsersRepository, times(1)).getReferenceById(typeUserId);
+        verify(userNameIndex).put(any(), eq("Silva, Ana"));
+        verify(userCounters).increment(typeUserId);
+        verify(userCounters, times(2)).increment(null);
+    }
+
+    @Test
+    void importCsv_WhenRowsAreInvalid_ShouldReportErrorsPerLine() {
+        // Arrange
+        String csv = HEADER
+                + "João Silva,,senha123,(11) 99999-0001,,,,,,,\n"
+                + "Maria Souza,maria@email.com,senha123,(11) 99999-0002,31-12-1990,,,,,,\n"
+                + "Ana Lima,ana@email.com,senha123,(11) 99999-0003,,,,,,,\n"
+                + "Ana Repetida,ana@email.com,senha123,(11) 99999-0004,,,,,,,\n"
+                + "Pedro Costa,pedro@email.com,senha123,(11) 99999-0005,,,,,,,\n";
+        mockTransactions();
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("pedro@email.com"));
+        when(passwordEncoder.encodeWhenAvailable(anyString())).thenReturn(CompletableFuture.completedFuture("encodedPassword"));
+
+        // Act
+        UserImportResultDTO result = userImportService.importCsv(stream(csv));
+
+        // Assert
+        assertEquals(5, result.totalRows());
+        assertEquals(1, result.imported());
+        assertEquals(4, result.failed());
+        assertEquals(List.of(2L, 3L, 5L, 6L), result.errors().stream().map(error -> error.line()).toList());
+        assertTrue(result.errors().get(0).errors().contains("email: Email is required"));
+        assertEquals("Já existe um usuário com este email", result.errors().get(3).errors().get(0));
+    }
+
+    @Test
+    void importCsv_WhenBatchViolatesConstraint_ShouldRetryRowByRow() {
+        // Arrange
+        String csv = HEADER
+                + "João Silva,joao@email.com,senha123,(11) 99999-0001,,,,,,,\n"
+                + "Maria Souza,maria@email.com,senha123,(11) 99999-0002,,,,,,,\n";
+        mockTransactions();
+        when(passwordEncoder.encodeWhenAvailable(anyString())).thenReturn(CompletableFuture.completedFuture("encodedPassword"));
+        when(userRepository.saveAll(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenReturn(List.of())
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // Act
+        UserImportResultDTO result = userImportService.importCsv(stream(csv));
+
+        // Assert
+        assertEquals(1, result.imported());
+        assertEquals(1, result.failed());
+        assertEquals(3L, result.errors().get(0).line());
+    }
+
+    @Test
+    void importCsv_WhenFileIsEmpty_ShouldThrowBadRequestException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userImportService.importCsv(stream("")));
+    }
+
+    private void mockTransactions() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private TypeUsers activeType() {
+        return TypeUsers.builder()
+                .id(typeUserId)
+                .name("Cliente")
+                .isActive(true)
+                .build();
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
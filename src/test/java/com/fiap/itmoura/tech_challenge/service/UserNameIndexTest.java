@@ -0,0 +1,141 @@
+package com.fiap.itmoura.tech_challenge.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.itmoura.tech_challenge.model.data.UserNameData;
+import com.fiap.itmoura.tech_challenge.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserNameIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserNameIndex userNameIndex;
+
+    private final UUID joao = UUID.randomUUID();
+    private final UUID silvana = UUID.randomUUID();
+    private final UUID ana = UUID.randomUUID();
+
+    @Test
+    void rebuild_ShouldIndexActiveNamesAndMarkReady() {
+        // Arrange
+        when(userRepository.streamActiveNames()).thenReturn(Stream.of(
+                new UserNameData(joao, "João Silva"),
+                new UserNameData(ana, "Ana Souza")));
+
+        // Act
+        userNameIndex.rebuild();
+
+        // Assert
+        assertTrue(userNameIndex.isReady());
+        assertEquals(2, userNameIndex.size());
+        assertEquals(List.of(joao), userNameIndex.search("silva", 10).ids());
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccents() {
+        // Arrange
+        userNameIndex.put(joao, "João Silva");
+
+        // Act & Assert
+        assertEquals(List.of(joao), userNameIndex.search("JOAO", 10).ids());
+        assertEquals(List.of(joao), userNameIndex.search("joão s", 10).ids());
+    }
+
+    @Test
+    void search_ShouldRankPrefixThenWordStartThenSubstring() {
+        // Arrange
+        userNameIndex.put(joao, "João Silva");
+        userNameIndex.put(silvana, "Silvana Costa");
+        userNameIndex.put(ana, "Ana Assilva");
+
+        // Act
+        UserNameIndex.SearchResult result = userNameIndex.search("silva", 10);
+
+        // Assert
+        assertEquals(List.of(silvana, joao, ana), result.ids());
+        assertEquals(3, result.total());
+    }
+
+    @Test
+    void search_WhenLimitIsSmallerThanMatches_ShouldReturnTopAndFullTotal() {
+        // Arrange
+        userNameIndex.put(joao, "João Silva");
+        userNameIndex.put(silvana, "Silvana Costa");
+        userNameIndex.put(ana, "Ana Assilva");
+
+        // Act
+        UserNameIndex.SearchResult result = userNameIndex.search("silva", 1);
+
+        // Assert
+        assertEquals(List.of(silvana), result.ids());
+        assertEquals(3, result.total());
+    }
+
+    @Test
+    void search_WhenTrigramsMatchButSubstringDoesNot_ShouldNotReturnUser() {
+        // Arrange
+        userNameIndex.put(ana, "Alan Lana");
+
+        // Act & Assert
+        assertEquals(0, userNameIndex.search("alana", 10).total());
+        assertEquals(List.of(ana), userNameIndex.search("lana", 10).ids());
+    }
+
+    @Test
+    void put_WhenNameChanges_ShouldReplacePreviousEntry() {
+        // Arrange
+        userNameIndex.put(joao, "João Silva");
+
+        // Act
+        userNameIndex.put(joao, "João Pereira");
+
+        // Assert
+        assertTrue(userNameIndex.search("silva", 10).ids().isEmpty());
+        assertEquals(List.of(joao), userNameIndex.search("pereira", 10).ids());
+        assertEquals(1, userNameIndex.size());
+    }
+
+    @Test
+    void remove_ShouldExcludeUserFromResults() {
+        // Arrange
+        userNameIndex.put(joao, "João Silva");
+
+        // Act
+        userNameIndex.remove(joao);
+
+        // Assert
+        assertTrue(userNameIndex.search("silva", 10).ids().isEmpty());
+        assertEquals(0, userNameIndex.size());
+    }
+
+    @Test
+    void remove_WhenManyEntriesRemoved_ShouldCompactAndKeepLiveEntries() {
+        // Arrange
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(3000).toList();
+        for (int i = 0; i < ids.size(); i++) {
+            userNameIndex.put(ids.get(i), "Usuário " + i);
+        }
+
+        // Act
+        ids.subList(0, 2500).forEach(userNameIndex::remove);
+
+        // Assert
+        assertEquals(500, userNameIndex.size());
+        assertEquals(List.of(ids.get(2999)), userNameIndex.search("usuario 2999", 10).ids());
+        assertEquals(0, userNameIndex.search("usuario 10", 10).total());
+    }
+}
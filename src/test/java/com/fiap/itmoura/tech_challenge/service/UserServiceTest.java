@@ -2,38 +2,61 @@ package com.fiap.itmoura.tech_challenge.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fiap.itmoura.tech_challenge.exception.BadRequestException;
 import com.fiap.itmoura.tech_challenge.exception.ConflictRequestException;
+import com.fiap.itmoura.tech_challenge.exception.UniqueConstraintTranslator;
+import com.fiap.itmoura.tech_challenge.model.data.KeysetCursor;
+import com.fiap.itmoura.tech_challenge.model.data.TypeUserData;
+import com.fiap.itmoura.tech_challenge.model.data.UserLifecycleEvent;
+import com.fiap.itmoura.tech_challenge.model.data.UserSummaryData;
+import com.fiap.itmoura.tech_challenge.model.data.UserVersionData;
 import com.fiap.itmoura.tech_challenge.model.dto.AddressDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.ChangeFeedDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.CursorPageDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserBatchDTO;
+import com.fiap.itmoura.tech_challenge.model.dto.UserChangeDTO;
 import com.fiap.itmoura.tech_challenge.model.dto.UserDTO;
 import com.fiap.itmoura.tech_challenge.model.entity.Address;
 import com.fiap.itmoura.tech_challenge.model.entity.TypeUsers;
 import com.fiap.itmoura.tech_challenge.model.entity.Users;
+import com.fiap.itmoura.tech_challenge.model.enums.UserEventType;
 import com.fiap.itmoura.tech_challenge.repository.TypeUsersRepository;
 import com.fiap.itmoura.tech_challenge.repository.UserRepository;
 
+import jakarta.persistence.EntityManager;
+
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
 
@@ -43,9 +66,27 @@ class UserServiceTest {
     @Mock
     private TypeUsersRepository typeUsersRepository;
 
+    @Mock
+    private TypeUsersRegistry typeUsersRegistry;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Mock
+    private UserCounters userCounters;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -116,13 +157,14 @@ class UserServiceTest {
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
+
+        ReflectionTestUtils.setField(userService, "changeFeedSettleDelay", Duration.ofSeconds(2));
     }
 
     @Test
     void findAll_ShouldReturnListOfActiveUsers() {
         // Arrange
-        List<Users> users = Arrays.asList(user);
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findActiveSummaries()).thenReturn(List.of(summaryOf(user)));
 
         // Act
         List<UserDTO> result = userService.findAll();
@@ -131,15 +173,17 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(user.getName(), result.get(0).name());
-        verify(userRepository).findAll();
+        assertEquals(address.getZipCode(), result.get(0).address().zipCode());
+        assertNull(result.get(0).password());
+        verify(userRepository).findActiveSummaries();
     }
 
     @Test
     void findAllPaginated_ShouldReturnPageOfUsers() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Users> userPage = new PageImpl<>(Arrays.asList(user));
-        when(userRepository.findByIsActiveTrue(pageable)).thenReturn(userPage);
+        Page<UserSummaryData> userPage = new PageImpl<>(List.of(summaryOf(user)));
+        when(userRepository.findActiveSummaries(pageable)).thenReturn(userPage);
 
         // Act
         Page<UserDTO> result = userService.findAllPaginated(pageable);
@@ -148,13 +192,189 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(user.getName(), result.getContent().get(0).name());
-        verify(userRepository).findByIsActiveTrue(pageable);
+        verify(userRepository).findActiveSummaries(pageable);
+    }
+
+    @Test
+    void streamAll_ShouldEmitEachActiveUserAndClearPersistenceContext() {
+        // Arrange
+        when(userRepository.streamAllActive()).thenReturn(Stream.of(user));
+        List<UserDTO> emitted = new ArrayList<>();
+
+        // Act
+        userService.streamAll(emitted::add);
+
+        // Assert
+        assertEquals(1, emitted.size());
+        assertEquals(user.getName(), emitted.get(0).name());
+        verify(entityManager).clear();
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void streamByTypeUserId_ShouldEmitUsersOfType() {
+        // Arrange
+        when(userRepository.streamActiveByTypeUserId(typeUserId)).thenReturn(Stream.of(user));
+        List<UserDTO> emitted = new ArrayList<>();
+
+        // Act
+        userService.streamByTypeUserId(typeUserId, emitted::add);
+
+        // Assert
+        assertEquals(1, emitted.size());
+        assertEquals(typeUserId, emitted.get(0).typeUserId());
+    }
+
+    @Test
+    void findAllByCursor_WhenMoreRowsThanSize_ShouldReturnNextCursor() {
+        // Arrange
+        Users second = Users.builder()
+                .id(UUID.randomUUID())
+                .name("Maria Souza")
+                .email("maria@email.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(userRepository.findActiveFirstPage(PageRequest.of(0, 2))).thenReturn(Arrays.asList(user, second));
+
+        // Act
+        CursorPageDTO<UserDTO> result = userService.findAllByCursor(null, 1);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertTrue(result.hasNext());
+        assertEquals(user.getName(), result.content().get(0).name());
+        KeysetCursor next = KeysetCursor.decode(result.nextCursor());
+        assertEquals(user.getId(), next.id());
+        assertEquals(user.getCreatedAt(), next.timestamp());
+    }
+
+    @Test
+    void findAllByCursor_WhenCursorProvided_ShouldSeekAfterCursor() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 1, 1, 10, 0), UUID.randomUUID());
+        when(userRepository.findActivePageAfter(cursor.timestamp(), cursor.id(), PageRequest.of(0, 21)))
+                .thenReturn(Arrays.asList(user));
+
+        // Act
+        CursorPageDTO<UserDTO> result = userService.findAllByCursor(cursor.encode(), 20);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        verify(userRepository, never()).findActiveFirstPage(any(Pageable.class));
+    }
+
+    @Test
+    void findAllByCursor_WhenCursorIsMalformed_ShouldThrowBadRequestException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userService.findAllByCursor("@@invalido@@", 20));
+    }
+
+    @Test
+    void findAllByCursor_WhenSizeIsOutOfRange_ShouldThrowBadRequestException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userService.findAllByCursor(null, 0));
+        assertThrows(BadRequestException.class, () -> userService.findAllByCursor(null, 101));
+    }
+
+    @Test
+    void findChangesSince_WhenMoreChangesThanSize_ShouldIncludeInactiveAndAdvanceWatermark() {
+        // Arrange
+        user.setIsActive(false);
+        Users second = Users.builder()
+                .id(UUID.randomUUID())
+                .name("Maria Souza")
+                .email("maria@email.com")
+                .typeUser(typeUser)
+                .address(address)
+                .lastUpdatedAt(user.getLastUpdatedAt().plusSeconds(1))
+                .isActive(true)
+                .build();
+        when(userRepository.findChangesFromStart(any(LocalDateTime.class), eq(PageRequest.of(0, 2))))
+                .thenReturn(Arrays.asList(summaryOf(user), summaryOf(second)));
+
+        // Act
+        ChangeFeedDTO<UserChangeDTO> result = userService.findChangesSince(null, 1);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertTrue(result.hasMore());
+        assertFalse(result.content().get(0).active());
+        assertEquals(userId, result.content().get(0).user().id());
+        KeysetCursor watermark = KeysetCursor.decode(result.watermark());
+        assertEquals(userId, watermark.id());
+        assertEquals(user.getLastUpdatedAt(), watermark.timestamp());
+    }
+
+    @Test
+    void findChangesSince_WhenNoNewChanges_ShouldKeepWatermark() {
+        // Arrange
+        KeysetCursor watermark = new KeysetCursor(LocalDateTime.of(2024, 1, 1, 10, 0), UUID.randomUUID());
+        LocalDateTime before = LocalDateTime.now();
+        when(userRepository.findChangesAfter(eq(watermark.timestamp()), eq(watermark.id()), any(LocalDateTime.class),
+                eq(PageRequest.of(0, 101)))).thenReturn(List.of());
+
+        // Act
+        ChangeFeedDTO<UserChangeDTO> result = userService.findChangesSince(watermark.encode(), 100);
+
+        // Assert
+        assertTrue(result.content().isEmpty());
+        assertFalse(result.hasMore());
+        assertEquals(watermark.encode(), result.watermark());
+        verify(userRepository).findChangesAfter(eq(watermark.timestamp()), eq(watermark.id()),
+                argThat(settledBefore -> settledBefore.isBefore(before.minusSeconds(1))), any(Pageable.class));
+    }
+
+    @Test
+    void searchByName_WhenIndexIsReady_ShouldReturnUsersInRankingOrder() {
+        // Arrange
+        Users second = Users.builder()
+                .id(UUID.randomUUID())
+                .name("Ana Silva")
+                .email("ana@email.com")
+                .isActive(true)
+                .build();
+        when(userNameIndex.isReady()).thenReturn(true);
+        when(userNameIndex.search("silva", 2)).thenReturn(new UserNameIndex.SearchResult(List.of(second.getId(), userId), 5));
+        when(userRepository.findAllById(List.of(second.getId(), userId))).thenReturn(List.of(user, second));
+
+        // Act
+        Page<UserDTO> result = userService.searchByName("silva", 0, 2);
+
+        // Assert
+        assertEquals(5, result.getTotalElements());
+        assertEquals(List.of("Ana Silva", user.getName()), result.getContent().stream().map(UserDTO::name).toList());
+        verify(userRepository, never()).findByNameContainingIgnoreCaseAndIsActiveTrue(anyString());
+    }
+
+    @Test
+    void searchByName_WhenIndexIsNotReady_ShouldFallbackToDatabase() {
+        // Arrange
+        when(userNameIndex.isReady()).thenReturn(false);
+        when(userRepository.findByNameContainingIgnoreCaseAndIsActiveTrue("silva")).thenReturn(List.of(user));
+
+        // Act
+        Page<UserDTO> result = userService.searchByName("silva", 0, 20);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        verify(userNameIndex, never()).search(anyString(), anyInt());
+    }
+
+    @Test
+    void searchByName_WhenQueryOrPageIsInvalid_ShouldThrowBadRequestException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userService.searchByName("jo", 0, 20));
+        assertThrows(BadRequestException.class, () -> userService.searchByName("joão", -1, 20));
+        assertThrows(BadRequestException.class, () -> userService.searchByName("joão", 0, 101));
+        assertThrows(BadRequestException.class, () -> userService.searchByName("joão", 50, 20));
     }
 
     @Test
     void findById_WhenUserExists_ShouldReturnUser() {
         // Arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.findSummaryById(userId)).thenReturn(Optional.of(summaryOf(user)));
 
         // Act
         UserDTO result = userService.findById(userId);
@@ -163,34 +383,36 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(user.getName(), result.name());
         assertEquals(user.getEmail(), result.email());
-        verify(userRepository).findById(userId);
+        assertEquals(typeUserId, result.typeUserId());
+        verify(userRepository).findSummaryById(userId);
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
     void findById_WhenUserNotExists_ShouldThrowBadRequestException() {
         // Arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findSummaryById(userId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(BadRequestException.class, () -> userService.findById(userId));
-        verify(userRepository).findById(userId);
+        verify(userRepository).findSummaryById(userId);
     }
 
     @Test
     void findById_WhenUserIsInactive_ShouldThrowBadRequestException() {
         // Arrange
         user.setIsActive(false);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.findSummaryById(userId)).thenReturn(Optional.of(summaryOf(user)));
 
         // Act & Assert
         assertThrows(BadRequestException.class, () -> userService.findById(userId));
-        verify(userRepository).findById(userId);
+        verify(userRepository).findSummaryById(userId);
     }
 
     @Test
     void findByEmail_WhenUserExists_ShouldReturnUser() {
         // Arrange
-        when(userRepository.findByEmail("joao@email.com")).thenReturn(Optional.of(user));
+        when(userRepository.findSummaryByEmail("joao@email.com")).thenReturn(Optional.of(summaryOf(user)));
 
         // Act
         UserDTO result = userService.findByEmail("joao@email.com");
@@ -198,14 +420,88 @@ class UserServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(user.getEmail(), result.email());
-        verify(userRepository).findByEmail("joao@email.com");
+        verify(userRepository).findSummaryByEmail("joao@email.com");
+    }
+
+    @Test
+    void findEtagById_WhenUserIsActive_ShouldChangeWithLastUpdatedAt() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 10, 14, 30, 15, 123_456_000);
+        when(userRepository.findVersionById(userId))
+                .thenReturn(Optional.of(new UserVersionData(userId, updatedAt, true)))
+                .thenReturn(Optional.of(new UserVersionData(userId, updatedAt.plusNanos(1_000), true)));
+
+        // Act
+        Optional<String> first = userService.findEtagById(userId);
+        Optional<String> second = userService.findEtagById(userId);
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertTrue(first.get().startsWith("\"" + userId + "-"));
+        assertTrue(first.get().endsWith("\""));
+        assertNotEquals(first, second);
+        verify(userRepository, never()).findSummaryById(any());
+    }
+
+    @Test
+    void findEtagById_WhenUserIsInactive_ShouldReturnEmpty() {
+        // Arrange
+        when(userRepository.findVersionById(userId))
+                .thenReturn(Optional.of(new UserVersionData(userId, LocalDateTime.now(), false)));
+
+        // Act
+        Optional<String> result = userService.findEtagById(userId);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findAllByIds_ShouldReturnFoundUsersKeyedByIdAndExplicitMisses() {
+        // Arrange
+        UUID unknownId = UUID.randomUUID();
+        when(userRepository.findActiveSummariesByIdIn(List.of(unknownId, userId))).thenReturn(List.of(summaryOf(user)));
+
+        // Act
+        UserBatchDTO result = userService.findAllByIds(List.of(unknownId, userId, unknownId));
+
+        // Assert
+        assertEquals(1, result.found().size());
+        assertEquals(user.getName(), result.found().get(userId).name());
+        assertEquals(List.of(unknownId), result.missing());
+    }
+
+    @Test
+    void findAllByIds_WhenManyIds_ShouldQueryInChunks() {
+        // Arrange
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(250).toList();
+        when(userRepository.findActiveSummariesByIdIn(anyList())).thenReturn(List.of());
+
+        // Act
+        UserBatchDTO result = userService.findAllByIds(ids);
+
+        // Assert
+        verify(userRepository).findActiveSummariesByIdIn(ids.subList(0, 100));
+        verify(userRepository).findActiveSummariesByIdIn(ids.subList(100, 200));
+        verify(userRepository).findActiveSummariesByIdIn(ids.subList(200, 250));
+        assertEquals(250, result.missing().size());
+    }
+
+    @Test
+    void findAllByIds_WhenListIsEmptyOrTooLarge_ShouldThrowBadRequestException() {
+        // Arrange
+        List<UUID> tooMany = Stream.generate(UUID::randomUUID).limit(501).toList();
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> userService.findAllByIds(List.of()));
+        assertThrows(BadRequestException.class, () -> userService.findAllByIds(tooMany));
+        verify(userRepository, never()).findActiveSummariesByIdIn(any());
     }
 
     @Test
     void findByTypeUserId_ShouldReturnUsersOfType() {
         // Arrange
-        List<Users> users = Arrays.asList(user);
-        when(userRepository.findByTypeUserIdAndIsActiveTrue(typeUserId)).thenReturn(users);
+        when(userRepository.findActiveSummariesByTypeUserId(typeUserId)).thenReturn(List.of(summaryOf(user)));
 
         // Act
         List<UserDTO> result = userService.findByTypeUserId(typeUserId);
@@ -214,17 +510,16 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(user.getName(), result.get(0).name());
-        verify(userRepository).findByTypeUserIdAndIsActiveTrue(typeUserId);
+        verify(userRepository).findActiveSummariesByTypeUserId(typeUserId);
     }
 
     @Test
     void create_WhenValidData_ShouldCreateUser() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.existsByPhone(anyString())).thenReturn(false);
-        when(typeUsersRepository.findById(typeUserId)).thenReturn(Optional.of(typeUser));
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(typeUser)));
+        when(typeUsersRepository.getReferenceById(typeUserId)).thenReturn(typeUser);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(userRepository.save(any(Users.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(Users.class))).thenReturn(user);
 
         // Act
         UserDTO result = userService.create(userDTO);
@@ -233,70 +528,90 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(userDTO.name(), result.name());
         assertEquals(userDTO.email(), result.email());
-        verify(userRepository).existsByEmail(userDTO.email());
-        verify(userRepository).existsByPhone(userDTO.phone());
-        verify(typeUsersRepository).findById(typeUserId);
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).existsByPhone(anyString());
+        verify(typeUsersRegistry).findById(typeUserId);
+        verify(typeUsersRepository, never()).findById(any());
         verify(passwordEncoder).encode(userDTO.password());
-        verify(userRepository).save(any(Users.class));
+        verify(userRepository).saveAndFlush(any(Users.class));
+        verify(userNameIndex).put(user.getId(), user.getName());
+        verify(userCounters).increment(typeUserId);
     }
 
     @Test
     void create_WhenEmailAlreadyExists_ShouldThrowConflictRequestException() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(typeUser)));
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(Users.class))).thenThrow(uniqueViolation(UniqueConstraintTranslator.USERS_EMAIL));
 
         // Act & Assert
-        assertThrows(ConflictRequestException.class, () -> userService.create(userDTO));
-        verify(userRepository).existsByEmail(userDTO.email());
-        verify(userRepository, never()).save(any(Users.class));
+        ConflictRequestException exception = assertThrows(ConflictRequestException.class, () -> userService.create(userDTO));
+        assertEquals(UniqueConstraintTranslator.EMAIL_CONFLICT_MESSAGE, exception.getMessage());
+        verify(userNameIndex, never()).put(any(), any());
+        verify(userCounters, never()).increment(any());
     }
 
     @Test
     void create_WhenPhoneAlreadyExists_ShouldThrowConflictRequestException() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.existsByPhone(anyString())).thenReturn(true);
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(typeUser)));
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(Users.class))).thenThrow(uniqueViolation(UniqueConstraintTranslator.USERS_PHONE));
 
         // Act & Assert
-        assertThrows(ConflictRequestException.class, () -> userService.create(userDTO));
-        verify(userRepository).existsByPhone(userDTO.phone());
-        verify(userRepository, never()).save(any(Users.class));
+        ConflictRequestException exception = assertThrows(ConflictRequestException.class, () -> userService.create(userDTO));
+        assertEquals(UniqueConstraintTranslator.PHONE_CONFLICT_MESSAGE, exception.getMessage());
+        verify(userCounters, never()).increment(any());
+    }
+
+    @Test
+    void create_WhenViolationIsNotUniqueConstraint_ShouldRethrowUnchanged() {
+        // Arrange
+        DataIntegrityViolationException tooLong = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("value too long for type character varying(255)"));
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(typeUser)));
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(Users.class))).thenThrow(tooLong);
+
+        // Act & Assert
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () -> userService.create(userDTO));
+        assertSame(tooLong, exception);
+        verify(userCounters, never()).increment(any());
     }
 
     @Test
     void create_WhenTypeUserNotExists_ShouldThrowBadRequestException() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.existsByPhone(anyString())).thenReturn(false);
-        when(typeUsersRepository.findById(typeUserId)).thenReturn(Optional.empty());
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(BadRequestException.class, () -> userService.create(userDTO));
-        verify(typeUsersRepository).findById(typeUserId);
-        verify(userRepository, never()).save(any(Users.class));
+        verify(typeUsersRegistry).findById(typeUserId);
+        verify(userRepository, never()).saveAndFlush(any(Users.class));
     }
 
     @Test
     void create_WhenTypeUserIsInactive_ShouldThrowBadRequestException() {
         // Arrange
         typeUser.setIsActive(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.existsByPhone(anyString())).thenReturn(false);
-        when(typeUsersRepository.findById(typeUserId)).thenReturn(Optional.of(typeUser));
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(typeUser)));
 
         // Act & Assert
         assertThrows(BadRequestException.class, () -> userService.create(userDTO));
-        verify(typeUsersRepository).findById(typeUserId);
-        verify(userRepository, never()).save(any(Users.class));
+        verify(typeUsersRegistry).findById(typeUserId);
+        verify(typeUsersRepository, never()).getReferenceById(any());
+        verify(userRepository, never()).saveAndFlush(any(Users.class));
     }
 
     @Test
     void update_WhenValidData_ShouldUpdateUser() {
         // Arrange
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.existsByPhone(anyString())).thenReturn(false);
-        when(userRepository.save(any(Users.class))).thenReturn(user);
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(typeUser)));
+        when(typeUsersRepository.getReferenceById(typeUserId)).thenReturn(typeUser);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(Users.class))).thenReturn(user);
 
         // Act
         UserDTO result = userService.update(userId, userDTO);
@@ -304,7 +619,22 @@ class UserServiceTest {
         // Assert
         assertNotNull(result);
         verify(userRepository).findById(userId);
-        verify(userRepository).save(any(Users.class));
+        verify(userRepository).saveAndFlush(any(Users.class));
+    }
+
+    @Test
+    void update_WhenEmailBelongsToAnotherUser_ShouldThrowConflictRequestException() {
+        // Arrange
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(typeUsersRegistry.findById(typeUserId)).thenReturn(Optional.of(TypeUserData.fromEntity(typeUser)));
+        when(typeUsersRepository.getReferenceById(typeUserId)).thenReturn(typeUser);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(Users.class))).thenThrow(uniqueViolation(UniqueConstraintTranslator.USERS_EMAIL));
+
+        // Act & Assert
+        ConflictRequestException exception = assertThrows(ConflictRequestException.class, () -> userService.update(userId, userDTO));
+        assertEquals(UniqueConstraintTranslator.EMAIL_CONFLICT_MESSAGE, exception.getMessage());
+        verify(userDetailsCache, never()).evict(anyString());
     }
 
     @Test
@@ -315,7 +645,7 @@ class UserServiceTest {
         // Act & Assert
         assertThrows(BadRequestException.class, () -> userService.update(userId, userDTO));
         verify(userRepository).findById(userId);
-        verify(userRepository, never()).save(any(Users.class));
+        verify(userRepository, never()).saveAndFlush(any(Users.class));
     }
 
     @Test
@@ -327,7 +657,7 @@ class UserServiceTest {
         // Act & Assert
         assertThrows(BadRequestException.class, () -> userService.update(userId, userDTO));
         verify(userRepository).findById(userId);
-        verify(userRepository, never()).save(any(Users.class));
+        verify(userRepository, never()).saveAndFlush(any(Users.class));
     }
 
     @Test
@@ -342,6 +672,25 @@ class UserServiceTest {
         // Assert
         verify(userRepository).findById(userId);
         verify(userRepository).save(any(Users.class));
+        verify(userDetailsCache).evict(user.getEmail());
+        verify(userNameIndex).remove(userId);
+        verify(userCounters).decrement(typeUserId);
+        verify(eventPublisher).publishEvent(new UserLifecycleEvent(UserEventType.DEACTIVATED, userId, user.getLastUpdatedAt()));
+    }
+
+    @Test
+    void delete_WhenUserAlreadyInactive_ShouldNotDecrementCounters() {
+        // Arrange
+        user.setIsActive(false);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        // Act
+        userService.delete(userId);
+
+        // Assert
+        verify(userRepository).save(user);
+        verify(userCounters, never()).decrement(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -368,6 +717,9 @@ class UserServiceTest {
         // Assert
         verify(userRepository).findById(userId);
         verify(userRepository).save(any(Users.class));
+        verify(userDetailsCache).evict(user.getEmail());
+        verify(userNameIndex).put(userId, user.getName());
+        verify(userCounters).increment(typeUserId);
         assertTrue(user.getIsActive());
     }
 
@@ -432,4 +784,45 @@ class UserServiceTest {
         assertEquals(3L, result);
         verify(userRepository).countByTypeUserIdAndIsActiveTrue(typeUserId);
     }
+
+    @Test
+    void countActiveUsers_WhenCountersAreReady_ShouldNotQueryDatabase() {
+        // Arrange
+        when(userCounters.isReady()).thenReturn(true);
+        when(userCounters.countActive()).thenReturn(42L);
+
+        // Act
+        long result = userService.countActiveUsers();
+
+        // Assert
+        assertEquals(42L, result);
+        verify(userRepository, never()).countByIsActiveTrue();
+    }
+
+    @Test
+    void countUsersByType_WhenCountersAreReady_ShouldNotQueryDatabase() {
+        // Arrange
+        when(userCounters.isReady()).thenReturn(true);
+        when(userCounters.countActiveByType(typeUserId)).thenReturn(7L);
+
+        // Act
+        long result = userService.countUsersByType(typeUserId);
+
+        // Assert
+        assertEquals(7L, result);
+        verify(userRepository, never()).countByTypeUserIdAndIsActiveTrue(any());
+    }
+
+    private static UserSummaryData summaryOf(Users user) {
+        Address userAddress = user.getAddress();
+        return new UserSummaryData(user.getId(), user.getName(), user.getEmail(), user.getPhone(), user.getBirthDate(),
+                user.getTypeUser().getId(), user.getCreatedAt(), user.getLastUpdatedAt(), user.getIsActive(),
+                userAddress.getId(), userAddress.getStreet(), userAddress.getNeighborhood(), userAddress.getComplement(),
+                userAddress.getNumber(), userAddress.getCity(), userAddress.getState(), userAddress.getZipCode());
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), constraint));
+    }
 }